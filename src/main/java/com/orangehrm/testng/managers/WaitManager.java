@@ -2,14 +2,35 @@ package com.orangehrm.testng.managers;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
+
+import com.orangehrm.testng.utils.PollingSleeper;
+import com.orangehrm.testng.utils.PollingStrategy;
+
+import java.time.Clock;
 import java.time.Duration;
+import java.util.function.Function;
 
 public class WaitManager {
     private WebDriverWait wait;
 
-    // Constructor that takes both WebDriver and timeout value
+    // Constructor that takes both WebDriver and timeout value; polling follows the configured PollingStrategy
     public WaitManager(WebDriver driver, int timeoutInSeconds) {
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        this(driver, timeoutInSeconds, PollingStrategy.fromConfig());
+    }
+
+    // Constructor with an explicit polling strategy
+    public WaitManager(WebDriver driver, int timeoutInSeconds, PollingStrategy strategy) {
+        PollingSleeper pollingSleeper = new PollingSleeper(strategy);
+        // the polling interval argument is ignored by PollingSleeper
+        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds), Duration.ofMillis(500),
+                Clock.systemDefaultZone(), pollingSleeper) {
+            @Override
+            public <V> V until(Function<? super WebDriver, V> isTrue) {
+                // every wait restarts the polling strategy from its first interval
+                pollingSleeper.reset();
+                return super.until(isTrue);
+            }
+        };
     }
 
     public WebDriverWait getWait() {
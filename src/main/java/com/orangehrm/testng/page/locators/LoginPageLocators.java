@@ -1,7 +1,12 @@
 package com.orangehrm.testng.page.locators;
 
+import java.util.List;
+
 import org.openqa.selenium.By;
 
+import com.orangehrm.testng.processor.GeneratePageElements;
+import com.orangehrm.testng.utils.LocatorCompiler;
+
 /**
  * This class contains the locators for the Login Page elements.
  * It encapsulates the locators and provides getter methods to access them.
@@ -14,23 +19,28 @@ import org.openqa.selenium.By;
  * This allows for better maintainability, reusability, and scalability of the test framework.
  * Scalability: As you add more pages to your application, you can add more classes for each page. 
  * For example, you can create a DashboardPageLocators.java file for all locators related to the dashboard page, ensuring that the code remains modular and easier to maintain.
+ * Code generation: @GeneratePageElements generates LoginPageElements at compile time, with a lazily resolved element
+ * per getter (getUsernameInputLocator() -> usernameInput()). Add a getter here and the element accessor follows.
  */
+@GeneratePageElements
 public class LoginPageLocators {
 
     // Private static final variables to store the locators
+    // Attribute-equality XPaths go through LocatorCompiler, which swaps in the equivalent CSS selector (locator.compile.css)
     private static final By usernameInputLocator = By.name("username");
     private static final By passwordInputLocator = By.name("password");
-    private static final By loginButtonLocator = By.xpath("//button[@type='submit']");
-    private static final By forgotPasswordLinkLocator = By.xpath("//p[@class='oxd-text oxd-text--p orangehrm-login-forgot-header']");
+    private static final By loginButtonLocator = LocatorCompiler.optimize(By.xpath("//button[@type='submit']"));
+    private static final By forgotPasswordLinkLocator = LocatorCompiler.optimize(By.xpath("//p[@class='oxd-text oxd-text--p orangehrm-login-forgot-header']"));
     private static final By logoutLinkLocator = By.xpath("//a[normalize-space()='Logout']");
-    private static final By resetPasswordTitleLocator = By.xpath("//h6[@class='oxd-text oxd-text--h6 orangehrm-forgot-password-title']");
-    private static final By resetPasswordSuccessfullPageTitleLocator = By.xpath("//h6[@class='oxd-text oxd-text--h6 orangehrm-forgot-password-title']");
-    private static final By loginErrorMessage = By.xpath("//p[@class='oxd-text oxd-text--p oxd-alert-content-text']");
-    private static final By dashboardTitleLocator = By.xpath("//h6[@class='oxd-text oxd-text--h6 oxd-topbar-header-breadcrumb-module']");
-    private static final By loginPageTitleLocator = By.xpath("//h5[@class='oxd-text oxd-text--h5 orangehrm-login-title']");
-    private static final By userDropDownLocator = By.xpath("//i[@class='oxd-icon bi-caret-down-fill oxd-userdropdown-icon']");
+    private static final By resetPasswordTitleLocator = LocatorCompiler.optimize(By.xpath("//h6[@class='oxd-text oxd-text--h6 orangehrm-forgot-password-title']"));
+    private static final By resetPasswordSuccessfullPageTitleLocator = LocatorCompiler.optimize(By.xpath("//h6[@class='oxd-text oxd-text--h6 orangehrm-forgot-password-title']"));
+    private static final By loginErrorMessage = LocatorCompiler.optimize(By.xpath("//p[@class='oxd-text oxd-text--p oxd-alert-content-text']"));
+    private static final By dashboardTitleLocator = LocatorCompiler.optimize(By.xpath("//h6[@class='oxd-text oxd-text--h6 oxd-topbar-header-breadcrumb-module']"));
+    private static final By loginPageTitleLocator = LocatorCompiler.optimize(By.xpath("//h5[@class='oxd-text oxd-text--h5 orangehrm-login-title']"));
+    private static final By userDropDownLocator = LocatorCompiler.optimize(By.xpath("//i[@class='oxd-icon bi-caret-down-fill oxd-userdropdown-icon']"));
     private static final By usernameErrorLocator = By.xpath("//label[text()='Username']/ancestor::div[contains(@class,'oxd-input-group')]/following-sibling::span[contains(@class,'oxd-input-field-error-message')]");
     private static final By passwordErrorLocator = By.xpath("//label[text()='Password']/ancestor::div[contains(@class,'oxd-input-group')]/following-sibling::span[contains(@class,'oxd-input-field-error-message')]");
+    private static final By fieldErrorLocator = By.cssSelector("span.oxd-input-field-error-message");
 
     /**
      * Getter method for the username input field locator.
@@ -135,4 +145,22 @@ public class LoginPageLocators {
     public static By getPasswordErrorLocator() {
         return passwordErrorLocator;
     }
+
+    /**
+     * Getter method for the locator matching any input field error message.
+     * @return By locator for the first field error message on the page.
+     */
+    public static By getFieldErrorLocator() {
+        return fieldErrorLocator;
+    }
+
+    /**
+     * Every locator of the Login page, e.g. for capturing the whole page in one ElementStateSnapshot.
+     * @return List of all Login page locators.
+     */
+    public static List<By> getAllLocators() {
+        return List.of(usernameInputLocator, passwordInputLocator, loginButtonLocator, forgotPasswordLinkLocator,
+                logoutLinkLocator, resetPasswordTitleLocator, loginErrorMessage, dashboardTitleLocator,
+                loginPageTitleLocator, userDropDownLocator, usernameErrorLocator, passwordErrorLocator, fieldErrorLocator);
+    }
 }
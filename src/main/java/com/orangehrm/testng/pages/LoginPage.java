@@ -1,13 +1,19 @@
 package com.orangehrm.testng.pages;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
-import com.orangehrm.testng.managers.WaitManager;
+import com.orangehrm.testng.page.locators.LoginPageElements;
 import com.orangehrm.testng.page.locators.LoginPageLocators;
-import com.orangehrm.testng.utils.ElementTextWait;
+import com.orangehrm.testng.utils.ElementStateSnapshot;
 import com.orangehrm.testng.utils.ElementVisibilityWait;
+import com.orangehrm.testng.utils.FormFiller;
 import com.orangehrm.testng.utils.LogUtil;
+import com.orangehrm.testng.utils.RetryPolicy;
 
 /**
  * LoginPage class represents the login page and contains all the interactions
@@ -18,7 +24,10 @@ public class LoginPage {
 
     private WebDriver driver;
     private ElementVisibilityWait visibilityWait; // Utility class for waiting actions (element visibility)
-    private ElementTextWait textWait;   // Utility class for waiting actions related to text matching
+    private LoginPageElements elements; // Generated from LoginPageLocators; elements resolve through the waits on first use
+    private final RetryPolicy retryPolicy = RetryPolicy.defaults();  // Retries stale/intercepted actions, fails fast otherwise
+    private FormFiller formFiller;      // Types the login form, or sets it in one script (form.fill.mode=script)
+    private int timeoutInSeconds;       // Configured wait (wait.time), also bounds the login outcome race
 
 
     /**
@@ -30,13 +39,21 @@ public class LoginPage {
             throw new NullPointerException("WebDriver instance is not initialized.");
         }
         this.driver = driver;
+        this.timeoutInSeconds = timeoutInSeconds;
 
-        // Use WaitManager to create a WebDriverWait instance
-        WaitManager waitManager = new WaitManager(driver, timeoutInSeconds);
-        
-        // Initialize ElementVisibilityWait and ElementTextWait using WaitManager
-        this.visibilityWait = new ElementVisibilityWait(waitManager.getWait());
-        this.textWait = new ElementTextWait(driver, timeoutInSeconds, 500);  // timeout = 10s, polling = 500ms
+        // Waits run shared, immutable WaitSpecs; wait.backend=browser evaluates them in the page
+        this.visibilityWait = new ElementVisibilityWait(driver);
+        this.elements = new LoginPageElements(driver, timeoutInSeconds);  // cached per page, revalidated before reuse
+        this.formFiller = new FormFiller(driver);
+    }
+
+    /**
+     * Chooses how login() enters credentials for this page instance, overriding form.fill.mode.
+     * Tests of typing behaviour (key events, focus order) should use KEYSTROKES.
+     * @param mode KEYSTROKES to type each character, SCRIPT to set both fields in one script call.
+     */
+    public void setFormFillMode(FormFiller.Mode mode) {
+        formFiller.setMode(mode);
     }
     
     /**
@@ -45,8 +62,12 @@ public class LoginPage {
      * @param username The username to enter.
      */
     public void enterUserName(String username) {
-        WebElement usernameInput = visibilityWait.waitForElementToBeVisible(LoginPageLocators.getUsernameInputLocator(), 10);
-        usernameInput.sendKeys(username);
+        retryPolicy.run("enterUserName", () -> {
+            // a failed attempt may have typed part of the value
+            WebElement input = elements.usernameInput();
+            input.clear();
+            input.sendKeys(username);
+        });
         LogUtil.log("Entered username: " + username, LogUtil.LogLevel.INFO);
     }
 
@@ -56,8 +77,11 @@ public class LoginPage {
      * @param password The password to enter.
      */
     public void enterPassword(String password) {
-        WebElement passwordInput = visibilityWait.waitForElementToBeVisible(LoginPageLocators.getPasswordInputLocator(), 10);
-        passwordInput.sendKeys(password);
+        retryPolicy.run("enterPassword", () -> {
+            WebElement input = elements.passwordInput();
+            input.clear();
+            input.sendKeys(password);
+        });
         LogUtil.log("Entered password: " + password, LogUtil.LogLevel.INFO);
     }
 
@@ -66,8 +90,7 @@ public class LoginPage {
      * Logs the action for tracking purposes.
      */
     public void clickLoginButton() {
-        WebElement loginButton = visibilityWait.waitForElementToBeClickable(LoginPageLocators.getLoginButtonLocator(), 10);
-        loginButton.click();
+        retryPolicy.run("clickLoginButton", () -> elements.loginButton().click());
         LogUtil.log("Clicked login button", LogUtil.LogLevel.INFO);
     }
 
@@ -77,17 +100,32 @@ public class LoginPage {
      * @param password The password to enter.
      */
     public void login(String username, String password) {
-        enterUserName(username);
-        enterPassword(password);
+        fillLoginForm(username, password);
         clickLoginButton();
     }
 
+    /**
+     * Enters username and password, typing them by default or in one script call in SCRIPT fill mode.
+     * @param username The username to enter.
+     * @param password The password to enter.
+     */
+    public void fillLoginForm(String username, String password) {
+        Map<By, String> fields = new LinkedHashMap<>();
+        fields.put(LoginPageLocators.getUsernameInputLocator(), username);
+        fields.put(LoginPageLocators.getPasswordInputLocator(), password);
+        formFiller.fill("loginForm", fields, () -> {
+            enterUserName(username);
+            enterPassword(password);
+        });
+        LogUtil.log("Filled login form (" + formFiller.getMode() + ") for user: " + username, LogUtil.LogLevel.INFO);
+    }
+
     /**
      * Checks if the Forgot Password link is displayed on the login page.
      * @return true if the Forgot Password link is displayed, false otherwise.
      */
     public boolean isForgotPasswordLinkDisplayed() {
-        return visibilityWait.isElementDisplayed(LoginPageLocators.getForgotPasswordLinkLocator(), 10);
+        return elements.forgotPasswordLink().isDisplayed();
     }
 
     /**
@@ -95,8 +133,7 @@ public class LoginPage {
      * Logs the action for tracking purposes.
      */
     public void clickForgotPasswordLink() {
-        WebElement forgotPasswordLink = visibilityWait.waitForElementToBeClickable(LoginPageLocators.getForgotPasswordLinkLocator(), 10);
-        forgotPasswordLink.click();
+        retryPolicy.run("clickForgotPasswordLink", () -> elements.forgotPasswordLink().click());
         LogUtil.log("Clicked forgot password link", LogUtil.LogLevel.INFO);
     }
 
@@ -125,7 +162,7 @@ public class LoginPage {
      * @return true if the reset password page title is displayed, false otherwise.
      */
     public boolean isResetPasswordPageTitleDisplayed() {
-        return visibilityWait.isElementDisplayed(LoginPageLocators.getResetPasswordTitleLocator(), 10);
+        return elements.resetPasswordTitle().isDisplayed();
     }
 
     /**
@@ -133,7 +170,7 @@ public class LoginPage {
      * @return true if the reset password success page title is displayed, false otherwise.
      */
     public boolean isResetPasswordSuccessPageTitleDisplayed() {
-        return visibilityWait.isElementDisplayed(LoginPageLocators.getResetPasswordSuccessfullPageTitleLocator(), 10);
+        return elements.resetPasswordSuccessfullPageTitle().isDisplayed();
     }
 
     /**
@@ -141,8 +178,7 @@ public class LoginPage {
      * Logs the action for tracking purposes.
      */
     public void clearUserName() {
-        WebElement usernameInput = visibilityWait.waitForElementToBeVisible(LoginPageLocators.getUsernameInputLocator(), 10);
-        usernameInput.clear();
+        retryPolicy.run("clearUserName", () -> elements.usernameInput().clear());
         LogUtil.log("Cleared username field", LogUtil.LogLevel.INFO);
     }
 
@@ -151,8 +187,7 @@ public class LoginPage {
      * Logs the action for tracking purposes.
      */
     public void clearPassword() {
-        WebElement passwordInput = visibilityWait.waitForElementToBeVisible(LoginPageLocators.getPasswordInputLocator(), 10);
-        passwordInput.clear();
+        retryPolicy.run("clearPassword", () -> elements.passwordInput().clear());
         LogUtil.log("Cleared password field", LogUtil.LogLevel.INFO);
     }
 
@@ -161,7 +196,27 @@ public class LoginPage {
      * @return true if the login error message is displayed, false otherwise.
      */
     public boolean isLoginErrorMessageDisplayed() {
-        return visibilityWait.isElementDisplayed(LoginPageLocators.getLoginErrorMessage(), 10);
+        try {
+            return awaitLoginOutcome() == LoginOutcome.LOGIN_ERROR;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Waits for the page to settle after submitting the login form and reports how it ended.
+     * Returns as soon as the dashboard, the login error or a required-field error is shown, so a
+     * failed login does not wait out the timeout before it is detected.
+     * @return The outcome that appeared first, or NONE if nothing appeared within the timeout.
+     */
+    public LoginOutcome awaitLoginOutcome() {
+        Map<LoginOutcome, By> outcomes = new LinkedHashMap<>();
+        outcomes.put(LoginOutcome.DASHBOARD, LoginPageLocators.getDashboardTitleLocator());
+        outcomes.put(LoginOutcome.LOGIN_ERROR, LoginPageLocators.getLoginErrorMessage());
+        outcomes.put(LoginOutcome.REQUIRED_FIELD, LoginPageLocators.getFieldErrorLocator());
+        LoginOutcome outcome = visibilityWait.waitForAny(outcomes, timeoutInSeconds).orElse(LoginOutcome.NONE);
+        LogUtil.log("Login outcome: " + outcome, LogUtil.LogLevel.INFO);
+        return outcome;
     }
 
     /**
@@ -169,7 +224,7 @@ public class LoginPage {
      * @return The login error message.
      */
     public String getLoginErrorMessage() {
-        return textWait.waitForElementVisibility(LoginPageLocators.getLoginErrorMessage()).getText();
+        return elements.loginErrorMessage().getText();
     }
 
     /**
@@ -177,8 +232,7 @@ public class LoginPage {
      * @return The error message for the username field.
      */
     public String getUsernameFieldErrorMessage() {
-        WebElement requiredFieldUsername = visibilityWait.waitForElementToBeVisible(LoginPageLocators.getUsernameErrorLocator(), 10);
-        return requiredFieldUsername.getText();
+        return elements.usernameError().getText();
     }
 
     /**
@@ -186,8 +240,7 @@ public class LoginPage {
      * @return The error message for the password field.
      */
     public String getPasswordFieldErrorMessage() {
-        WebElement requiredFieldPassword = visibilityWait.waitForElementToBeVisible(LoginPageLocators.getPasswordErrorLocator(), 10);
-        return requiredFieldPassword.getText();
+        return elements.passwordError().getText();
     }
 
     /**
@@ -195,7 +248,11 @@ public class LoginPage {
      * @return true if the dashboard title is displayed, false otherwise.
      */
     public boolean isDashboardTitleDisplayed() {
-        return visibilityWait.isElementDisplayed(LoginPageLocators.getDashboardTitleLocator(), 10);
+        try {
+            return awaitLoginOutcome() == LoginOutcome.DASHBOARD;
+        } catch (Exception e) {
+            return false;
+        }
     }
 
     /**
@@ -203,7 +260,7 @@ public class LoginPage {
      * @return true if the login page title is displayed, false otherwise.
      */
     public boolean isLoginPageTitleDisplayed() {
-        return visibilityWait.isElementDisplayed(LoginPageLocators.getLoginPageTitleLocator(), 10);
+        return elements.loginPageTitle().isDisplayed();
     }
 
     /**
@@ -211,7 +268,16 @@ public class LoginPage {
      * @return true if the logout link is displayed, false otherwise.
      */
     public boolean isLogoutLinkDisplayed() {
-        return visibilityWait.isElementDisplayed(LoginPageLocators.getLogoutLinkLocator(), 10);
+        return elements.logoutLink().isDisplayed();
+    }
+
+    /**
+     * Reads presence, visibility, enabled state, text and value of every Login page element in one round trip.
+     * Use for assertions on several elements instead of querying them one by one.
+     * @return A snapshot of all locators in LoginPageLocators.
+     */
+    public ElementStateSnapshot captureState() {
+        return ElementStateSnapshot.capture(driver, LoginPageLocators.getAllLocators());
     }
 
     /**
@@ -219,9 +285,16 @@ public class LoginPage {
      * Logs the action for tracking purposes.
      */
     public void clickLogoutLink() {
-        visibilityWait.waitForElementToBeClickable(LoginPageLocators.getUserDropDownLocator(), 10).click();
-        WebElement logoutLink = visibilityWait.waitForElementToBeClickable(LoginPageLocators.getLogoutLinkLocator(), 10);
-        logoutLink.click();
+        // retried separately: repeating the drop-down click would close the menu again
+        retryPolicy.run("openUserDropDown", () -> elements.userDropDown().click());
+        retryPolicy.run("clickLogoutLink", () -> elements.logoutLink().click());
         LogUtil.log("Clicked logout link", LogUtil.LogLevel.INFO);
     }
+
+    /**
+     * Mutually exclusive results of submitting the login form.
+     */
+    public enum LoginOutcome {
+        DASHBOARD, LOGIN_ERROR, REQUIRED_FIELD, NONE
+    }
 }
@@ -0,0 +1,25 @@
+package com.orangehrm.testng.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a locator class for {@link PageElementsProcessor}, which generates a page-elements class next to it
+ * at compile time with one lazy element accessor per public static By getter.
+ *
+ * Example: LoginPageLocators.getUsernameInputLocator() becomes LoginPageElements.usernameInput().
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GeneratePageElements {
+
+    /**
+     * @return Simple name of the generated class; by default the locator class name with "Locators"
+     *         replaced by "Elements".
+     */
+    String value() default "";
+}
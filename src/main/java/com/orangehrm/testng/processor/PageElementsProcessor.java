@@ -0,0 +1,163 @@
+package com.orangehrm.testng.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+/**
+ * Class Name: PageElementsProcessor
+ *
+ * Description:
+ * Annotation processor generating page-elements classes from locator classes marked with
+ * {@link GeneratePageElements}. Each public static, parameterless getter returning By becomes a
+ * LazyElement accessor on the generated class, so page objects get ready-to-use elements without
+ * hand-written wait/find boilerplate and without PageFactory's runtime reflection.
+ *
+ * Key Features:
+ * - Accessor names drop the "get" prefix and "Locator" suffix: getUsernameInputLocator() -> usernameInput().
+ * - The generated constructor takes (WebDriver, int timeoutSeconds) and creates one ElementCache and one
+ *   ElementVisibilityWait shared by all elements of the page; no element is located until first use.
+ * - Generated code only calls the locator getters, so locators can keep being computed in static initialisers.
+ *
+ * The processor is compiled ahead of the main sources by the compile-annotation-processor execution in pom.xml.
+ *
+ * Dependencies:
+ * - javax.annotation.processing (JDK only; generated code depends on Selenium and the utils package).
+ */
+@SupportedAnnotationTypes("com.orangehrm.testng.processor.GeneratePageElements")
+public class PageElementsProcessor extends AbstractProcessor {
+
+    private static final String BY = "org.openqa.selenium.By";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element annotated : roundEnv.getElementsAnnotatedWith(GeneratePageElements.class)) {
+            if (annotated.getKind() != ElementKind.CLASS) {
+                error(annotated, "@GeneratePageElements applies to locator classes only");
+                continue;
+            }
+            TypeElement locators = (TypeElement) annotated;
+            List<ExecutableElement> getters = locatorGetters(locators);
+            if (getters.isEmpty()) {
+                error(locators, "No public static By getters found in " + locators.getSimpleName());
+                continue;
+            }
+            try {
+                write(locators, generatedName(locators), getters);
+            } catch (IOException e) {
+                error(locators, "Could not generate page elements: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private static List<ExecutableElement> locatorGetters(TypeElement locators) {
+        List<ExecutableElement> getters = new ArrayList<>();
+        for (Element member : locators.getEnclosedElements()) {
+            if (member.getKind() != ElementKind.METHOD) {
+                continue;
+            }
+            ExecutableElement method = (ExecutableElement) member;
+            if (method.getModifiers().containsAll(Set.of(Modifier.PUBLIC, Modifier.STATIC))
+                    && method.getParameters().isEmpty()
+                    && method.getSimpleName().toString().startsWith("get")
+                    && method.getReturnType().toString().equals(BY)) {
+                getters.add(method);
+            }
+        }
+        return getters;
+    }
+
+    private static String generatedName(TypeElement locators) {
+        String name = locators.getAnnotation(GeneratePageElements.class).value();
+        if (!name.isEmpty()) {
+            return name;
+        }
+        String simpleName = locators.getSimpleName().toString();
+        return simpleName.endsWith("Locators")
+                ? simpleName.substring(0, simpleName.length() - "Locators".length()) + "Elements"
+                : simpleName + "Elements";
+    }
+
+    /**
+     * getUsernameInputLocator -> usernameInput; getLoginErrorMessage -> loginErrorMessage.
+     */
+    static String accessorName(String getter) {
+        String name = getter.substring("get".length());
+        if (name.endsWith("Locator") && name.length() > "Locator".length()) {
+            name = name.substring(0, name.length() - "Locator".length());
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private void write(TypeElement locators, String className, List<ExecutableElement> getters) throws IOException {
+        String packageName = ((PackageElement) locators.getEnclosingElement()).getQualifiedName().toString();
+        String locatorClass = locators.getSimpleName().toString();
+        StringBuilder fields = new StringBuilder();
+        StringBuilder assignments = new StringBuilder();
+        StringBuilder accessors = new StringBuilder();
+        for (ExecutableElement getter : getters) {
+            String getterName = getter.getSimpleName().toString();
+            String name = accessorName(getterName);
+            fields.append("    private final LazyElement ").append(name).append(";\n");
+            assignments.append("        this.").append(name).append(" = new LazyElement(cache, wait, ")
+                    .append(locatorClass).append('.').append(getterName).append("(), timeoutSeconds);\n");
+            accessors.append("\n    /**\n     * @return The element located by {@link ").append(locatorClass).append('#').append(getterName)
+                    .append("()}, resolved on first use.\n     */\n    public LazyElement ").append(name)
+                    .append("() {\n        return ").append(name).append(";\n    }\n");
+        }
+
+        String source = "package " + packageName + ";\n\n"
+                + "import javax.annotation.processing.Generated;\n\n"
+                + "import org.openqa.selenium.WebDriver;\n\n"
+                + "import com.orangehrm.testng.utils.ElementCache;\n"
+                + "import com.orangehrm.testng.utils.ElementVisibilityWait;\n"
+                + "import com.orangehrm.testng.utils.LazyElement;\n\n"
+                + "/**\n * Elements of {@link " + locatorClass + "}, generated by PageElementsProcessor. Do not edit.\n"
+                + " * Elements resolve on first use; accessors may be called from any thread.\n */\n"
+                + "@Generated(\"" + PageElementsProcessor.class.getName() + "\")\n"
+                + "public final class " + className + " {\n\n"
+                + "    private final ElementCache cache;\n"
+                + fields + "\n"
+                + "    /**\n     * @param driver         The WebDriver instance.\n"
+                + "     * @param timeoutSeconds Wait timeout for resolving each element.\n     */\n"
+                + "    public " + className + "(WebDriver driver, int timeoutSeconds) {\n"
+                + "        this.cache = new ElementCache(driver);\n"
+                + "        ElementVisibilityWait wait = new ElementVisibilityWait(driver);\n"
+                + assignments
+                + "    }\n"
+                + accessors
+                + "\n    /**\n     * Forgets every resolved element, e.g. after the page was reloaded.\n     */\n"
+                + "    public void invalidate() {\n"
+                + "        cache.invalidate();\n"
+                + "    }\n"
+                + "}\n";
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(packageName + "." + className, locators).openWriter()) {
+            writer.write(source);
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,229 @@
+package com.orangehrm.testng.utils;
+
+import java.net.URI;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.orangehrm.testng.pages.LoginPage;
+
+/**
+ * Class Name: AuthSessionCache
+ *
+ * Description:
+ * Caches the authenticated browser state (cookies and localStorage) of a real UI login, keyed by
+ * environment and username, so tests that are not about login can start on the dashboard without
+ * typing credentials. The first request for a credential set logs in through {@link LoginPage};
+ * later requests inject the captured state into their (fresh or pooled) session instead.
+ *
+ * Key Features:
+ * - Configurable time-to-live (auth.cache.ttl.minutes), capped by the earliest cookie expiry.
+ * - Restored sessions are validated on the dashboard; an expired or rejected state triggers a new login.
+ * - One login per key at a time, so parallel classes sharing a user do not all log in together.
+ * - Can be switched off with auth.cache.enabled=false, in which case every call performs a UI login.
+ *
+ * Dependencies:
+ * - Selenium WebDriver for cookies and script execution.
+ * - LoginPage for the UI login and dashboard checks.
+ * - SLF4J (Log4j) for logging.
+ */
+public final class AuthSessionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthSessionCache.class);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigManager.getProperty("auth.cache.enabled", "false"));
+    private static final long TTL_MILLIS = Long.parseLong(ConfigManager.getProperty("auth.cache.ttl.minutes", "20")) * 60_000L;
+
+    private static final Map<String, AuthState> states = new ConcurrentHashMap<>();
+    private static final Map<String, Object> loginLocks = new ConcurrentHashMap<>();
+
+    private static final TimingStats loginStats = new TimingStats();
+    private static final TimingStats restoreStats = new TimingStats();
+
+    private AuthSessionCache() {}
+
+    /**
+     * Brings the driver to the dashboard as the given user, restoring a cached state when one is
+     * available and still valid, and performing a UI login otherwise.
+     *
+     * @param driver   The session to authenticate.
+     * @param username The username.
+     * @param password The password, only used when a UI login is needed.
+     */
+    public static void login(WebDriver driver, String username, String password) {
+        String key = ConfigManager.getEnvironment() + "|" + username;
+        if (!ENABLED) {
+            uiLogin(driver, username, password);
+            return;
+        }
+
+        AuthState state = states.get(key);
+        if (state != null && !state.isExpired() && restore(driver, state)) {
+            return;
+        }
+
+        synchronized (loginLocks.computeIfAbsent(key, k -> new Object())) {
+            // another thread may have logged in while we waited for the lock
+            AuthState latest = states.get(key);
+            if (latest != null && latest != state && !latest.isExpired() && restore(driver, latest)) {
+                return;
+            }
+            states.remove(key);
+            uiLogin(driver, username, password);
+            states.put(key, capture(driver));
+            logger.info("Cached authenticated session for {}", key);
+        }
+    }
+
+    /**
+     * Drops every cached state, e.g. after a test changed the user's password.
+     */
+    public static void invalidateAll() {
+        states.clear();
+    }
+
+    /**
+     * Drops the cached state of one user in the current environment.
+     *
+     * @param username The username.
+     */
+    public static void invalidate(String username) {
+        states.remove(ConfigManager.getEnvironment() + "|" + username);
+    }
+
+    public static TimingStats getLoginStats() {
+        return loginStats;
+    }
+
+    public static TimingStats getRestoreStats() {
+        return restoreStats;
+    }
+
+    /**
+     * @return A one-line summary of UI logins versus restored sessions, suitable for suite logs.
+     */
+    public static String describeMetrics() {
+        return String.format("Auth session cache: UI logins %s, restores %s", loginStats, restoreStats);
+    }
+
+    /**
+     * Clears the login and restore timings, e.g. at the start of a suite. Cached sessions are kept.
+     */
+    public static void resetMetrics() {
+        loginStats.reset();
+        restoreStats.reset();
+    }
+
+    private static void uiLogin(WebDriver driver, String username, String password) {
+        long start = System.nanoTime();
+        if (!driver.getCurrentUrl().startsWith(ConfigManager.getProperty("login.url"))) {
+            driver.get(ConfigManager.getProperty("login.url"));
+        }
+        LoginPage loginPage = new LoginPage(driver, waitSeconds());
+        loginPage.login(username, password);
+        if (!loginPage.isDashboardTitleDisplayed()) {
+            throw new IllegalStateException("Login failed for user: " + username);
+        }
+        logger.info("UI login for {} took {} ms", username, loginStats.recordSince(start));
+    }
+
+    /**
+     * Injects a cached state into the driver and checks that the dashboard accepts it.
+     *
+     * @return true if the session is on the dashboard, false if the state was rejected.
+     */
+    private static boolean restore(WebDriver driver, AuthState state) {
+        long start = System.nanoTime();
+        try {
+            // cookies and storage can only be set for the document's own origin
+            if (!driver.getCurrentUrl().startsWith(origin(dashboardUrl()))) {
+                driver.get(ConfigManager.getProperty("login.url"));
+            }
+            driver.manage().deleteAllCookies();
+            for (Cookie cookie : state.cookies) {
+                driver.manage().addCookie(cookie);
+            }
+            ((JavascriptExecutor) driver).executeScript(
+                    "window.localStorage.clear();"
+                            + "var items = arguments[0];"
+                            + "for (var k in items) { window.localStorage.setItem(k, items[k]); }",
+                    state.localStorage);
+            driver.get(dashboardUrl());
+
+            if (driver.getCurrentUrl().contains("/auth/login") || !new LoginPage(driver, waitSeconds()).isDashboardTitleDisplayed()) {
+                logger.info("Cached session rejected by the application, logging in again.");
+                return false;
+            }
+            logger.info("Restored cached session in {} ms", restoreStats.recordSince(start));
+            return true;
+        } catch (WebDriverException e) {
+            logger.warn("Could not restore cached session: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AuthState capture(WebDriver driver) {
+        Set<Cookie> cookies = driver.manage().getCookies();
+        Object storage = ((JavascriptExecutor) driver).executeScript(
+                "var items = {};"
+                        + "for (var i = 0; i < window.localStorage.length; i++) {"
+                        + "  var k = window.localStorage.key(i); items[k] = window.localStorage.getItem(k);"
+                        + "}"
+                        + "return items;");
+        Map<String, String> localStorage = new HashMap<>();
+        if (storage instanceof Map) {
+            ((Map<String, Object>) storage).forEach((k, v) -> localStorage.put(k, String.valueOf(v)));
+        }
+
+        long expiresAt = System.currentTimeMillis() + TTL_MILLIS;
+        for (Cookie cookie : cookies) {
+            Date expiry = cookie.getExpiry();
+            if (expiry != null) {
+                expiresAt = Math.min(expiresAt, expiry.getTime());
+            }
+        }
+        return new AuthState(cookies, localStorage, expiresAt);
+    }
+
+    private static String dashboardUrl() {
+        return ConfigManager.getProperty("dashboard.url");
+    }
+
+    private static String origin(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    private static int waitSeconds() {
+        return Integer.parseInt(ConfigManager.getProperty("wait.time", "10"));
+    }
+
+    /**
+     * Captured cookies and localStorage of one logged-in user.
+     */
+    private static final class AuthState {
+        private final Set<Cookie> cookies;
+        private final Map<String, String> localStorage;
+        private final long expiresAt;
+
+        private AuthState(Set<Cookie> cookies, Map<String, String> localStorage, long expiresAt) {
+            this.cookies = cookies;
+            this.localStorage = localStorage;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
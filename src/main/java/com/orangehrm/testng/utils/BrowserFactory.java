@@ -1,5 +1,6 @@
 package com.orangehrm.testng.utils;
 
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -7,24 +8,36 @@ import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
-import org.openqa.selenium.remote.DesiredCapabilities;
-import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.AbstractDriverOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import io.github.bonigarcia.wdm.WebDriverManager;
+
+import com.orangehrm.testng.utils.BrowserOptionsBuilder.PerformanceProfile;
 
 import java.net.URL;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class BrowserFactory {
 
     private static final Logger logger = LoggerFactory.getLogger(BrowserFactory.class);
     private static final Map<String, BrowserDriverProvider> providers = new HashMap<>();
-    private static final String REMOTE_DRIVER_URL = ConfigManager.getProperty("webdriver.hub.url");
+    private static final String REMOTE_DRIVER_URL = ConfigManager.getWebDriverHubUrl();
     private static final boolean IS_REMOTE = Boolean.parseBoolean(ConfigManager.getProperty("webdriver.remote", "false"));
+    private static final DriverServicePool servicePool = new DriverServicePool();
+    private static final SessionCreationPolicy creationPolicy = SessionCreationPolicy.fromConfig();
+    private static final GridAdmissionController admissionController =
+            Boolean.parseBoolean(ConfigManager.getProperty("grid.admission.enabled", "false")) ? GridAdmissionController.fromConfig() : null;
+    private static final Map<PerformanceProfile, TimingStats> startupStats = new EnumMap<>(PerformanceProfile.class);
+    private static final Map<PerformanceProfile, TimingStats> pageLoadStats = new EnumMap<>(PerformanceProfile.class);
 
     static {
+        for (PerformanceProfile profile : PerformanceProfile.values()) {
+            startupStats.put(profile, new TimingStats());
+            pageLoadStats.put(profile, new TimingStats());
+        }
         providers.put("chrome", new ChromeDriverProvider());
         providers.put("firefox", new FirefoxDriverProvider());
         providers.put("edge", new EdgeDriverProvider());
@@ -42,53 +55,127 @@ public class BrowserFactory {
                 throw new IllegalArgumentException("Unsupported browser: " + browser);
             }
             logger.info("Initializing local {} WebDriver (headless: {})", browser, isHeadless);
-            WebDriver driver = provider.createDriver(isHeadless);
-            logger.info("Successfully initialized {} WebDriver", browser);
-            return driver;
+            return creationPolicy.create(browser, () -> {
+                long start = System.nanoTime();
+                WebDriver driver = provider.createDriver(isHeadless);
+                recordStartup(browser, start);
+                SessionRegistry.register(driver);
+                return driver;
+            });
         }
     }
 
     public static WebDriver getRemoteDriver(String browser, boolean isHeadless) {
         try {
             logger.debug("getRemoteDriver called with browser: {}, headless: {}", browser, isHeadless);
-            DesiredCapabilities capabilities = new DesiredCapabilities();
-
-            if (browser.equalsIgnoreCase("chrome")) {
-                capabilities.setBrowserName("chrome");
-                ChromeOptions options = new ChromeOptions();
-                if (isHeadless) {
-                    options.addArguments("--headless", "--window-size=1920x1080");
-                }
-                capabilities.setCapability(ChromeOptions.CAPABILITY, options);
-            } else if (browser.equalsIgnoreCase("firefox")) {
-                capabilities.setBrowserName("firefox");
-                FirefoxOptions options = new FirefoxOptions();
-                if (isHeadless) {
-                    options.addArguments("--headless", "--width=1920", "--height=1080");
-                }
-                capabilities.setCapability(FirefoxOptions.FIREFOX_OPTIONS, options);
-            } else if (browser.equalsIgnoreCase("edge")) {
-                capabilities.setBrowserName("MicrosoftEdge");
-                EdgeOptions options = new EdgeOptions();
-                if (isHeadless) {
-                    options.addArguments("--headless", "--window-size=1920x1080");
-                }
-                capabilities.setCapability(EdgeOptions.CAPABILITY, options);
-            } else {
-                logger.error("Unsupported browser for remote execution: {}", browser);
-                throw new IllegalArgumentException("Unsupported browser: " + browser);
-            }
+            AbstractDriverOptions<?> options = BrowserOptionsBuilder.forBrowser(browser, isHeadless);
 
-            logger.info("Connecting to Remote WebDriver at: {}", REMOTE_DRIVER_URL);
-            WebDriver remoteDriver = new RemoteWebDriver(new URL(REMOTE_DRIVER_URL), capabilities);
-            logger.info("Successfully connected to Remote WebDriver for browser: {}", browser);
-            return remoteDriver;
+            URL hubUrl = new URL(REMOTE_DRIVER_URL);
+            // admission wait stays outside the retry policy: a slot timeout is final and says nothing about grid health
+            return admitRemoteSession(browser, () -> creationPolicy.create(browser, () -> {
+                logger.info("Connecting to Remote WebDriver at: {}", REMOTE_DRIVER_URL);
+                long start = System.nanoTime();
+                WebDriver remoteDriver = RemoteHttpClientFactory.newSession(hubUrl, options);
+                recordStartup(browser, start);
+                SessionRegistry.register(remoteDriver);
+                return remoteDriver;
+            }));
+        } catch (IllegalArgumentException e) {
+            logger.error("Unsupported browser for remote execution: {}", browser);
+            throw e;
+        } catch (SessionNotCreatedException e) {
+            logger.error("Remote WebDriver session not created: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             logger.error("Failed to create Remote WebDriver", e);
             throw new RuntimeException("Failed to create Remote WebDriver", e);
         }
     }
 
+    /**
+     * Creates a grid session once the admission controller has a free slot for the browser
+     * (grid.admission.enabled=true), or immediately when admission control is off.
+     *
+     * @param browser The browser name.
+     * @param creator Creates the remote session.
+     * @return The created session.
+     */
+    public static <T extends WebDriver> T admitRemoteSession(String browser, Supplier<T> creator) {
+        return admissionController == null ? creator.get() : admissionController.admit(browser, creator);
+    }
+
+    /**
+     * @return The retry and circuit-breaker policy applied to every session created by this factory.
+     */
+    public static SessionCreationPolicy getCreationPolicy() {
+        return creationPolicy;
+    }
+
+    /**
+     * @return The grid admission controller, or null when admission control is disabled.
+     */
+    public static GridAdmissionController getAdmissionController() {
+        return admissionController;
+    }
+
+    /**
+     * @param profile A browser performance profile.
+     * @return Session startup times recorded for the profile.
+     */
+    public static TimingStats getStartupStats(PerformanceProfile profile) {
+        return startupStats.get(profile);
+    }
+
+    /**
+     * @param profile A browser performance profile.
+     * @return Page-load times recorded for the profile.
+     */
+    public static TimingStats getPageLoadStats(PerformanceProfile profile) {
+        return pageLoadStats.get(profile);
+    }
+
+    /**
+     * Navigates to a URL and records the page-load time under the active performance profile.
+     *
+     * @param driver The WebDriver instance.
+     * @param url    The URL to load.
+     */
+    public static void navigateTo(WebDriver driver, String url) {
+        PerformanceProfile profile = PerformanceProfile.active();
+        long start = System.nanoTime();
+        driver.get(url);
+        long millis = pageLoadStats.get(profile).recordSince(start);
+        logger.info("Loaded {} in {} ms (profile: {})", url, millis, profile);
+    }
+
+    /**
+     * @return Startup and page-load timings per performance profile, for logs and reports.
+     */
+    public static String describeProfileTimings() {
+        StringBuilder summary = new StringBuilder("Browser profile timings -");
+        for (PerformanceProfile profile : PerformanceProfile.values()) {
+            if (startupStats.get(profile).getCount() > 0 || pageLoadStats.get(profile).getCount() > 0) {
+                summary.append(' ').append(profile).append(": startup [").append(startupStats.get(profile))
+                        .append("], page load [").append(pageLoadStats.get(profile)).append("];");
+            }
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Clears the startup and page-load timings of every profile.
+     */
+    public static void resetProfileTimings() {
+        startupStats.values().forEach(TimingStats::reset);
+        pageLoadStats.values().forEach(TimingStats::reset);
+    }
+
+    private static void recordStartup(String browser, long startNanos) {
+        PerformanceProfile profile = PerformanceProfile.active();
+        long millis = startupStats.get(profile).recordSince(startNanos);
+        logger.info("Successfully initialized {} WebDriver in {} ms (profile: {})", browser, millis, profile);
+    }
+
     public interface BrowserDriverProvider {
         WebDriver createDriver(boolean isHeadless);
     }
@@ -97,12 +184,9 @@ public class BrowserFactory {
         @Override
         public WebDriver createDriver(boolean isHeadless) {
             logger.debug("Creating Chrome WebDriver (headless: {})", isHeadless);
-            WebDriverManager.chromedriver().setup();
-            ChromeOptions options = new ChromeOptions();
-            if (isHeadless) {
-                options.addArguments("--headless", "--window-size=1920x1080");
-            }
-            WebDriver driver = new ChromeDriver(options);
+            DriverBinaryResolver.resolve("chrome");
+            ChromeOptions options = BrowserOptionsBuilder.chromeOptions(isHeadless, PerformanceProfile.active());
+            WebDriver driver = servicePool.newSession("chrome", options).orElseGet(() -> new ChromeDriver(options));
             logger.info("Chrome WebDriver initialized successfully");
             return driver;
         }
@@ -112,12 +196,9 @@ public class BrowserFactory {
         @Override
         public WebDriver createDriver(boolean isHeadless) {
             logger.debug("Creating Firefox WebDriver (headless: {})", isHeadless);
-            WebDriverManager.firefoxdriver().setup();
-            FirefoxOptions options = new FirefoxOptions();
-            if (isHeadless) {
-                options.addArguments("--headless", "--width=1920", "--height=1080");
-            }
-            WebDriver driver = new FirefoxDriver(options);
+            DriverBinaryResolver.resolve("firefox");
+            FirefoxOptions options = BrowserOptionsBuilder.firefoxOptions(isHeadless, PerformanceProfile.active());
+            WebDriver driver = servicePool.newSession("firefox", options).orElseGet(() -> new FirefoxDriver(options));
             logger.info("Firefox WebDriver initialized successfully");
             return driver;
         }
@@ -127,17 +208,21 @@ public class BrowserFactory {
         @Override
         public WebDriver createDriver(boolean isHeadless) {
             logger.debug("Creating Edge WebDriver (headless: {})", isHeadless);
-            WebDriverManager.edgedriver().setup();
-            EdgeOptions options = new EdgeOptions();
-            if (isHeadless) {
-                options.addArguments("--headless", "--window-size=1920x1080");
-            }
-            WebDriver driver = new EdgeDriver(options);
+            DriverBinaryResolver.resolve("edge");
+            EdgeOptions options = BrowserOptionsBuilder.edgeOptions(isHeadless, PerformanceProfile.active());
+            WebDriver driver = servicePool.newSession("edge", options).orElseGet(() -> new EdgeDriver(options));
             logger.info("Edge WebDriver initialized successfully");
             return driver;
         }
     }
 
+    /**
+     * @return The pool of long-lived local driver services that new local sessions attach to.
+     */
+    public static DriverServicePool getServicePool() {
+        return servicePool;
+    }
+
     public static void registerProvider(String browser, BrowserDriverProvider provider) {
         logger.debug("Registering custom provider for browser: {}", browser);
         providers.put(browser.toLowerCase(), provider);
@@ -0,0 +1,172 @@
+package com.orangehrm.testng.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.AbstractDriverOptions;
+
+/**
+ * Class Name: BrowserOptionsBuilder
+ *
+ * Description:
+ * Single place where browser options are built for local sessions, pooled driver services and the
+ * Selenium Grid. Options are shaped by a performance profile selected per environment through
+ * ConfigManager (browser.profile), so every session of a run is started with the same settings.
+ *
+ * Profiles:
+ * - STANDARD: normal page-load strategy, images and fonts enabled, window maximized by the test.
+ * - LEAN: eager page-load strategy, images/remote fonts/extensions disabled, no first-run or background
+ *   networking, and a fixed viewport (browser.viewport, default 1920x1080).
+ *
+ * When tests are isolated in browser contexts (driver.isolation=context, driver.isolation.bidi=true),
+ * sessions are also started with WebDriver BiDi enabled so each context can get its own user context.
+ *
+ * Dependencies:
+ * - Selenium WebDriver for browser options.
+ */
+public final class BrowserOptionsBuilder {
+
+    /**
+     * Browser performance profile, selected with the browser.profile property.
+     */
+    public enum PerformanceProfile {
+        STANDARD, LEAN;
+
+        /**
+         * @return The profile configured for the current environment (defaults to STANDARD).
+         */
+        public static PerformanceProfile active() {
+            return valueOf(ConfigManager.getProperty("browser.profile", "standard").trim().toUpperCase());
+        }
+    }
+
+    private BrowserOptionsBuilder() {}
+
+    /**
+     * Builds options for a browser using the configured profile.
+     *
+     * @param browser    The browser name ("chrome", "firefox" or "edge").
+     * @param isHeadless Whether the browser runs headless.
+     * @return Browser options ready to be passed to a local or remote driver.
+     */
+    public static AbstractDriverOptions<?> forBrowser(String browser, boolean isHeadless) {
+        return forBrowser(browser, isHeadless, PerformanceProfile.active());
+    }
+
+    /**
+     * Builds options for a browser using the given profile.
+     *
+     * @param browser    The browser name ("chrome", "firefox" or "edge").
+     * @param isHeadless Whether the browser runs headless.
+     * @param profile    The performance profile.
+     * @return Browser options ready to be passed to a local or remote driver.
+     */
+    public static AbstractDriverOptions<?> forBrowser(String browser, boolean isHeadless, PerformanceProfile profile) {
+        switch (browser.toLowerCase()) {
+            case "chrome":
+                return chromeOptions(isHeadless, profile);
+            case "firefox":
+                return firefoxOptions(isHeadless, profile);
+            case "edge":
+                return edgeOptions(isHeadless, profile);
+            default:
+                throw new IllegalArgumentException("Unsupported browser: " + browser);
+        }
+    }
+
+    public static ChromeOptions chromeOptions(boolean isHeadless, PerformanceProfile profile) {
+        return applyChromium(new ChromeOptions(), isHeadless, profile);
+    }
+
+    public static EdgeOptions edgeOptions(boolean isHeadless, PerformanceProfile profile) {
+        return applyChromium(new EdgeOptions(), isHeadless, profile);
+    }
+
+    public static FirefoxOptions firefoxOptions(boolean isHeadless, PerformanceProfile profile) {
+        FirefoxOptions options = new FirefoxOptions();
+        int[] viewport = viewport();
+        if (isHeadless) {
+            options.addArguments("--headless");
+        }
+        if (isHeadless || profile == PerformanceProfile.LEAN) {
+            options.addArguments("--width=" + viewport[0], "--height=" + viewport[1]);
+        }
+        if (profile == PerformanceProfile.LEAN) {
+            options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+            // images and web fonts
+            options.addPreference("permissions.default.image", 2);
+            options.addPreference("browser.display.use_document_fonts", 0);
+            options.addPreference("gfx.downloadable_fonts.enabled", false);
+            // extensions
+            options.addPreference("extensions.enabledScopes", 0);
+            options.addPreference("extensions.autoDisableScopes", 15);
+            // first run
+            options.addPreference("browser.shell.checkDefaultBrowser", false);
+            options.addPreference("browser.startup.homepage_override.mstone", "ignore");
+            options.addPreference("startup.homepage_welcome_url", "about:blank");
+            options.addPreference("trailhead.firstrun.didSeeAboutWelcome", true);
+            // background networking
+            options.addPreference("app.update.auto", false);
+            options.addPreference("app.update.enabled", false);
+            options.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+            options.addPreference("toolkit.telemetry.enabled", false);
+            options.addPreference("browser.safebrowsing.malware.enabled", false);
+            options.addPreference("browser.safebrowsing.phishing.enabled", false);
+            options.addPreference("network.prefetch-next", false);
+            options.addPreference("network.dns.disablePrefetch", true);
+        }
+        enableBiDiForIsolation(options);
+        return options;
+    }
+
+    private static <T extends ChromiumOptions<T>> T applyChromium(T options, boolean isHeadless, PerformanceProfile profile) {
+        int[] viewport = viewport();
+        if (isHeadless) {
+            options.addArguments("--headless");
+        }
+        if (isHeadless || profile == PerformanceProfile.LEAN) {
+            options.addArguments("--window-size=" + viewport[0] + "," + viewport[1]);
+        }
+        options.addArguments("--disable-gpu");
+        if (profile == PerformanceProfile.LEAN) {
+            options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+            Map<String, Object> prefs = new HashMap<>();
+            prefs.put("profile.managed_default_content_settings.images", 2);
+            options.setExperimentalOption("prefs", prefs);
+            options.addArguments(
+                    "--blink-settings=imagesEnabled=false",
+                    "--disable-remote-fonts",
+                    "--disable-extensions",
+                    "--disable-component-extensions-with-background-pages",
+                    "--no-first-run",
+                    "--no-default-browser-check",
+                    "--disable-default-apps",
+                    "--disable-background-networking",
+                    "--disable-component-update",
+                    "--disable-sync",
+                    "--metrics-recording-only");
+        }
+        enableBiDiForIsolation(options);
+        return options;
+    }
+
+    private static void enableBiDiForIsolation(AbstractDriverOptions<?> options) {
+        if ("context".equalsIgnoreCase(ConfigManager.getProperty("driver.isolation", "session"))
+                && Boolean.parseBoolean(ConfigManager.getProperty("driver.isolation.bidi", "true"))) {
+            options.setCapability("webSocketUrl", true);
+        }
+    }
+
+    /**
+     * @return The fixed viewport as {width, height}, from browser.viewport (e.g. 1920x1080).
+     */
+    private static int[] viewport() {
+        String[] size = ConfigManager.getProperty("browser.viewport", "1920x1080").toLowerCase().split("x");
+        return new int[]{Integer.parseInt(size[0].trim()), Integer.parseInt(size[1].trim())};
+    }
+}
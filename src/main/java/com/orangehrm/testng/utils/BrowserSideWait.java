@@ -0,0 +1,277 @@
+package com.orangehrm.testng.utils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class Name: BrowserSideWait
+ *
+ * Description:
+ * Evaluates wait conditions inside the page instead of polling them from the client. A single
+ * executeAsyncScript call installs a MutationObserver and re-checks the condition on the next animation
+ * frame after each DOM change, then returns as soon as the condition holds or the timeout expires.
+ * A wait therefore costs one round trip to the driver instead of one or more per poll, which matters
+ * most against a remote grid.
+ *
+ * Key Features:
+ * - Visibility, clickability and text conditions, matching the ExpectedConditions used by the wait utilities.
+ * - Races several locators in one call and reports which became visible first.
+ * - Supports By.id, By.name, By.className, By.tagName, By.cssSelector and By.xpath locators.
+ * - Long timeouts are split into several script calls so they stay below the driver's script timeout.
+ * - When scripts cannot run (blocked, unsupported), it reports so and callers fall back to polling.
+ * - A navigation that aborts the wait script re-arms it on the new page instead of disabling the backend.
+ * - A lost session, browser or window fails the wait at once instead of being retried until the timeout.
+ *
+ * Selected with wait.backend=browser; see {@link ElementVisibilityWait}.
+ *
+ * Dependencies:
+ * - Selenium WebDriver (JavascriptExecutor).
+ * - SLF4J (Log4j) for logging.
+ */
+public class BrowserSideWait {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserSideWait.class);
+
+    // stays below the W3C default script timeout of 30 s
+    private static final long MAX_SCRIPT_MILLIS = 25_000;
+
+    // drivers on which scripts turned out not to work, so later waits go straight to polling
+    private static final Map<WebDriver, Boolean> unavailable = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // find([kind, selector]) and visible(element), shared with the batched state query in ElementStateSnapshot
+    static final String DOM_FUNCTIONS = String.join("\n",
+            "function find(target) {",
+            "  if (target[0] === 'css') { return document.querySelector(target[1]); }",
+            "  return document.evaluate(target[1], document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;",
+            "}",
+            "function visible(el) {",
+            "  if (!el || el.nodeType !== 1 || !el.isConnected || el.getClientRects().length === 0) { return false; }",
+            "  var style = window.getComputedStyle(el);",
+            "  if (style.visibility === 'hidden' || style.visibility === 'collapse') { return false; }",
+            "  for (var n = el; n && n.nodeType === 1; n = n.parentElement) {",
+            "    if (window.getComputedStyle(n).opacity === '0') { return false; }",
+            "  }",
+            "  var rect = el.getBoundingClientRect();",
+            "  return rect.width > 0 && rect.height > 0;",
+            "}");
+
+    // arguments: [[kind, selector], ...], condition, text, timeout millis; resolves to [index, element] or null
+    private static final String WAIT_SCRIPT = DOM_FUNCTIONS + "\n" + String.join("\n",
+            "var targets = arguments[0], condition = arguments[1], text = arguments[2];",
+            "var timeout = arguments[3], done = arguments[arguments.length - 1];",
+            "function matches(el) {",
+            "  if (!visible(el)) { return false; }",
+            "  if (condition === 'CLICKABLE' && el.disabled) { return false; }",
+            "  return condition !== 'TEXT' || (el.innerText || el.textContent || '').indexOf(text) >= 0;",
+            "}",
+            "function check() {",
+            "  for (var i = 0; i < targets.length; i++) {",
+            "    var el = find(targets[i]);",
+            "    if (matches(el)) { return [i, el]; }",
+            "  }",
+            "  return null;",
+            "}",
+            "var first = check();",
+            "if (first) { done(first); return; }",
+            "var finished = false, scheduled = false, observer, poller, timer;",
+            "function finish(value) {",
+            "  if (finished) { return; }",
+            "  finished = true; observer.disconnect(); clearInterval(poller); clearTimeout(timer); done(value);",
+            "}",
+            "function evaluate() { var hit = check(); if (hit) { finish(hit); } }",
+            "observer = new MutationObserver(function () {",
+            "  if (scheduled || finished) { return; }",
+            "  scheduled = true;",
+            "  requestAnimationFrame(function () { scheduled = false; evaluate(); });",
+            "});",
+            "observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true, characterData: true});",
+            "// CSS transitions change visibility without DOM mutations, and animation frames do not run in background tabs",
+            "poller = setInterval(evaluate, 100);",
+            "timer = setTimeout(function () { finish(null); }, timeout);");
+
+    /**
+     * Conditions that can be evaluated in the page.
+     */
+    public enum Condition {
+        VISIBLE, CLICKABLE, TEXT
+    }
+
+    private final WebDriver driver;
+
+    public BrowserSideWait(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * @return true if waits should be evaluated in the browser (wait.backend=browser).
+     */
+    public static boolean isEnabled() {
+        return "browser".equalsIgnoreCase(ConfigManager.getProperty("wait.backend", "polling"));
+    }
+
+    /**
+     * Waits in the page until the condition holds for the element.
+     *
+     * @param locator   The element locator.
+     * @param condition The condition to wait for.
+     * @param text      The expected text for {@link Condition#TEXT}, otherwise ignored.
+     * @param timeout   The timeout.
+     * @return The element, or empty if the condition cannot be evaluated in this browser and the caller
+     *         should fall back to polling.
+     * @throws TimeoutException if the condition does not hold within the timeout.
+     */
+    public Optional<WebElement> until(By locator, Condition condition, String text, Duration timeout) {
+        return race(List.of(locator), condition, text, timeout).map(hit -> (WebElement) hit.get(1));
+    }
+
+    /**
+     * Waits in the page until any of the elements is visible. Locators are checked in order on every
+     * evaluation, so an earlier one wins when several are visible at once.
+     *
+     * @param locators The candidate locators.
+     * @param timeout  The timeout.
+     * @return The index of the first visible locator, or empty if this cannot be evaluated in the browser.
+     * @throws TimeoutException if none becomes visible within the timeout.
+     */
+    public Optional<Integer> firstVisible(List<By> locators, Duration timeout) {
+        return race(locators, Condition.VISIBLE, null, timeout).map(hit -> ((Number) hit.get(0)).intValue());
+    }
+
+    private Optional<List<?>> race(List<By> locators, Condition condition, String text, Duration timeout) {
+        List<List<String>> targets = new ArrayList<>();
+        for (By locator : locators) {
+            String[] selector = toSelector(locator);
+            if (selector == null) {
+                return Optional.empty();
+            }
+            targets.add(Arrays.asList(selector));
+        }
+        if (unavailable.containsKey(driver) || !(driver instanceof JavascriptExecutor)) {
+            return Optional.empty();
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            long remaining = (deadline - System.nanoTime()) / 1_000_000;
+            if (remaining <= 0) {
+                throw new TimeoutException(String.format("Expected condition failed: waiting for %s of %s (tried for %d second(s) in the browser)",
+                        condition.name().toLowerCase(), locators.size() == 1 ? locators.get(0) : "any of " + locators, timeout.getSeconds()));
+            }
+            try {
+                Object result = ((JavascriptExecutor) driver).executeAsyncScript(WAIT_SCRIPT,
+                        targets, condition.name(), text == null ? "" : text, Math.min(remaining, MAX_SCRIPT_MILLIS));
+                if (result instanceof List) {
+                    return Optional.of((List<?>) result);
+                }
+            } catch (ScriptTimeoutException e) {
+                logger.debug("Browser-side wait chunk hit the script timeout, re-arming: {}", e.getMessage());
+            } catch (NoSuchSessionException | NoSuchWindowException | UnreachableBrowserException e) {
+                throw e;
+            } catch (JavascriptException e) {
+                if (isNavigation(e)) {
+                    // chromedriver reports a navigation that aborts the script as a javascript error
+                    logger.debug("Browser-side wait interrupted by navigation, re-arming: {}", e.getMessage());
+                    sleepBriefly();
+                } else if (scriptsBlocked()) {
+                    logger.warn("Scripts cannot run for browser-side waits, falling back to polling: {}", e.getMessage());
+                    unavailable.put(driver, Boolean.TRUE);
+                    return Optional.empty();
+                } else {
+                    // e.g. an invalid selector: polling reports it with the proper exception
+                    logger.debug("Browser-side wait script failed, polling this wait instead: {}", e.getMessage());
+                    return Optional.empty();
+                }
+            } catch (UnsupportedCommandException e) {
+                logger.warn("Scripts cannot run for browser-side waits, falling back to polling: {}", e.getMessage());
+                unavailable.put(driver, Boolean.TRUE);
+                return Optional.empty();
+            } catch (WebDriverException e) {
+                // other drivers report an aborted script as a plain WebDriverException; re-arm on the new page
+                logger.debug("Browser-side wait interrupted, re-arming: {}", e.getMessage());
+                sleepBriefly();
+            }
+        }
+    }
+
+    /**
+     * @return true if the error says the document was unloaded or replaced while the script was waiting.
+     */
+    private static boolean isNavigation(JavascriptException e) {
+        String message = String.valueOf(e.getMessage()).toLowerCase();
+        return message.contains("unloaded") || message.contains("navigat") || message.contains("context was destroyed");
+    }
+
+    /**
+     * Runs a trivial script to tell blocked scripts apart from a failure of the wait script itself.
+     */
+    private boolean scriptsBlocked() {
+        try {
+            ((JavascriptExecutor) driver).executeScript("return 1;");
+            return false;
+        } catch (JavascriptException | UnsupportedCommandException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Converts a locator into {"css"|"xpath", selector}, or null if it has no script equivalent.
+     */
+    static String[] toSelector(By locator) {
+        String description = locator.toString();
+        int separator = description.indexOf(": ");
+        if (!description.startsWith("By.") || separator < 0) {
+            return null;
+        }
+        String type = description.substring(3, separator);
+        String value = description.substring(separator + 2);
+        switch (type) {
+            case "xpath":
+                return new String[]{"xpath", value};
+            case "cssSelector":
+                return new String[]{"css", value};
+            case "id":
+                return new String[]{"css", "[id=\"" + escapeAttribute(value) + "\"]"};
+            case "name":
+                return new String[]{"css", "[name=\"" + escapeAttribute(value) + "\"]"};
+            case "className":
+                return new String[]{"css", "[class~=\"" + escapeAttribute(value) + "\"]"};
+            case "tagName":
+                return new String[]{"css", value};
+            default:
+                return null;
+        }
+    }
+
+    private static String escapeAttribute(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static void sleepBriefly() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted during browser-side wait", e);
+        }
+    }
+}
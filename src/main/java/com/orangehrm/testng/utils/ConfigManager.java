@@ -11,9 +11,9 @@ public class ConfigManager {
     private static final ConfigurationProvider configurationProvider = new PropertiesConfigurationProvider();
     private static final Properties properties = new Properties();
     private static final Logger logger = LogManager.getLogger(ConfigManager.class);
+    private static final String environment = resolveEnvironment();
 
     static {
-        String environment = resolveEnvironment();
         properties.putAll(configurationProvider.loadConfiguration(environment));
     }
 
@@ -49,6 +49,15 @@ public class ConfigManager {
         return environment;
     }
 
+    /**
+     * Retrieves the environment the configuration was loaded for.
+     *
+     * @return The environment name (e.g., "dev", "staging", "prod").
+     */
+    public static String getEnvironment() {
+        return environment;
+    }
+
     /**
      * Checks if the WebDriver should be remote based on configuration.
      *
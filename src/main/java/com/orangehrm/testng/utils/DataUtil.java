@@ -13,8 +13,8 @@
  * - Provides utility methods like checking if a cell is date-formatted in Excel files.
  *
  * Dependencies:
- * - Apache POI for reading Excel files.
- * - Jackson ObjectMapper for JSON processing.
+ * - Apache POI for reading Excel files (streamed through StreamingExcelReader).
+ * - Jackson for JSON processing (streamed through StreamingJsonReader; ObjectMapper for schema checks).
  * - Log4j for logging.
  *
  * Usage:
@@ -125,17 +125,18 @@ interface DataReader {
  * Class Name: ExcelDataReader
  *
  * Description:
- * Implementation of `DataReader` for reading data from Excel files. Uses Apache POI to parse Excel sheets and
- * converts the data into a list of maps.
+ * Implementation of `DataReader` for reading data from Excel files. Streams the first sheet with
+ * `StreamingExcelReader` (POI event model) and converts each row into a map keyed by the header row.
  */
 class ExcelDataReader implements DataReader {
-//    private static final Logger logger = LogManager.getLogger(ExcelDataReader.class);
-//    private static final String DEFAULT_EMPTY_CELL_VALUE = System.getProperty("default.empty.cell.value", "N/A");
 
     @Override
     public List<Map<String, String>> readData(String filePath) throws DataUtil.DataProcessingException {
-        // Implement reading Excel data
-        return null;  // Replace with actual implementation
+        try {
+            return StreamingExcelReader.of(filePath).readAll();
+        } catch (IOException e) {
+            throw new DataUtil.DataProcessingException("Error reading Excel file: " + filePath, e);
+        }
     }
 }
 
@@ -143,16 +144,18 @@ class ExcelDataReader implements DataReader {
  * Class Name: JsonDataReader
  *
  * Description:
- * Implementation of `DataReader` for reading data from JSON files. Uses Jackson ObjectMapper to parse JSON data
- * into a list of maps.
+ * Implementation of `DataReader` for reading data from JSON files. Parses the array of records token by token
+ * with `StreamingJsonReader` (Jackson JsonParser) into a list of maps.
  */
 class JsonDataReader implements DataReader {
-//    private static final Logger logger = LogManager.getLogger(JsonDataReader.class);
 
     @Override
     public List<Map<String, String>> readData(String filePath) throws DataUtil.DataProcessingException {
-        // Implement reading JSON data
-        return null;  // Replace with actual implementation
+        try {
+            return StreamingJsonReader.of(filePath).readAll();
+        } catch (IOException e) {
+            throw new DataUtil.DataProcessingException("Error reading JSON file: " + filePath, e);
+        }
     }
 }
 
@@ -0,0 +1,203 @@
+package com.orangehrm.testng.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+/**
+ * Class Name: DriverBinaryResolver
+ *
+ * Description:
+ * Resolves the driver executable (chromedriver, geckodriver, msedgedriver) once per JVM and browser,
+ * and remembers the result in a small on-disk manifest keyed by the installed browser version.
+ * A later JVM that finds a manifest entry whose binary still exists skips WebDriverManager entirely,
+ * which means no version detection round trips and no network access.
+ *
+ * Resolution order:
+ * 1. An explicit, existing path in webdriver.local.&lt;browser&gt;.path.
+ * 2. The manifest entry for &lt;browser&gt;.&lt;installed browser version&gt;.
+ * 3. WebDriverManager setup; the downloaded path is written back to the manifest.
+ *
+ * Dependencies:
+ * - WebDriverManager for the initial driver download.
+ * - SLF4J (Log4j) for logging.
+ */
+public final class DriverBinaryResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverBinaryResolver.class);
+
+    private static final Map<String, String> resolvedPaths = new ConcurrentHashMap<>();
+    private static final Pattern VERSION_PATTERN = Pattern.compile("(\\d+(?:\\.\\d+)+)");
+    private static final Path MANIFEST_PATH = Paths.get(ConfigManager.getProperty("driver.manifest.path",
+            System.getProperty("user.home") + File.separator + ".cache" + File.separator + "orangehrm"
+                    + File.separator + "driver-manifest.properties"));
+
+    private DriverBinaryResolver() {}
+
+    /**
+     * Resolves the driver executable for a browser and exports it through the matching
+     * webdriver.*.driver system property. Only the first call per browser does any work.
+     *
+     * @param browser The browser name ("chrome", "firefox" or "edge").
+     * @return The absolute path of the driver executable.
+     */
+    public static String resolve(String browser) {
+        return resolvedPaths.computeIfAbsent(browser.toLowerCase(), DriverBinaryResolver::resolveOnce);
+    }
+
+    private static String resolveOnce(String browser) {
+        long start = System.nanoTime();
+        String driverPath = configuredPath(browser)
+                .orElseGet(() -> {
+                    String manifestKey = browser + "." + detectBrowserVersion(browser);
+                    return manifestPath(manifestKey).orElseGet(() -> downloadAndRecord(browser, manifestKey));
+                });
+        System.setProperty(driverProperty(browser), driverPath);
+        logger.info("Resolved {} driver to {} in {} ms", browser, driverPath, (System.nanoTime() - start) / 1_000_000);
+        return driverPath;
+    }
+
+    private static Optional<String> configuredPath(String browser) {
+        String configured = ConfigManager.getProperty("webdriver.local." + browser + ".path");
+        if (configured != null && Files.isExecutable(Paths.get(configured))) {
+            logger.debug("Using configured {} driver: {}", browser, configured);
+            return Optional.of(configured);
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<String> manifestPath(String manifestKey) {
+        String path = loadManifest().getProperty(manifestKey);
+        if (path != null && Files.isExecutable(Paths.get(path))) {
+            logger.debug("Driver manifest hit for {}: {}", manifestKey, path);
+            return Optional.of(path);
+        }
+        return Optional.empty();
+    }
+
+    private static String downloadAndRecord(String browser, String manifestKey) {
+        logger.info("No cached driver for {}, resolving with WebDriverManager", manifestKey);
+        WebDriverManager manager = managerFor(browser);
+        manager.setup();
+        String path = manager.getDownloadedDriverPath();
+        if (path == null) {
+            throw new IllegalStateException("WebDriverManager did not resolve a driver for " + browser);
+        }
+        recordInManifest(manifestKey, path);
+        return path;
+    }
+
+    /**
+     * Detects the installed browser version from the browser binary. Falls back to a size/timestamp
+     * fingerprint of the binary when the version cannot be read, and to "unknown" when no binary is found.
+     */
+    private static String detectBrowserVersion(String browser) {
+        Optional<Path> browserPath = managerFor(browser).getBrowserPath();
+        if (browserPath.isEmpty()) {
+            return "unknown";
+        }
+        Path binary = browserPath.get();
+        if (!System.getProperty("os.name", "").toLowerCase().contains("win")) {
+            try {
+                Process process = new ProcessBuilder(binary.toString(), "--version").redirectErrorStream(true).start();
+                if (process.waitFor(5, TimeUnit.SECONDS)) {
+                    try (InputStream output = process.getInputStream()) {
+                        Matcher matcher = VERSION_PATTERN.matcher(new String(output.readAllBytes(), StandardCharsets.UTF_8));
+                        if (matcher.find()) {
+                            return matcher.group(1);
+                        }
+                    }
+                } else {
+                    process.destroyForcibly();
+                }
+            } catch (IOException e) {
+                logger.debug("Could not read {} version from {}: {}", browser, binary, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            return "fp-" + Files.size(binary) + "-" + Files.getLastModifiedTime(binary).toMillis();
+        } catch (IOException e) {
+            return "unknown";
+        }
+    }
+
+    private static Properties loadManifest() {
+        Properties manifest = new Properties();
+        if (Files.exists(MANIFEST_PATH)) {
+            try (InputStream input = Files.newInputStream(MANIFEST_PATH)) {
+                manifest.load(input);
+            } catch (IOException e) {
+                logger.warn("Could not read driver manifest {}: {}", MANIFEST_PATH, e.getMessage());
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Merges an entry into the manifest and replaces the file atomically so concurrent JVMs never read a partial file.
+     */
+    private static synchronized void recordInManifest(String manifestKey, String driverPath) {
+        try {
+            Files.createDirectories(MANIFEST_PATH.toAbsolutePath().getParent());
+            Properties manifest = loadManifest();
+            manifest.setProperty(manifestKey, driverPath);
+            Path temp = Files.createTempFile(MANIFEST_PATH.toAbsolutePath().getParent(), "driver-manifest", ".tmp");
+            try (OutputStream output = Files.newOutputStream(temp)) {
+                manifest.store(output, "Resolved WebDriver binaries keyed by <browser>.<browser version>");
+            }
+            Files.move(temp, MANIFEST_PATH, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Recorded {} -> {} in driver manifest {}", manifestKey, driverPath, MANIFEST_PATH);
+        } catch (IOException e) {
+            logger.warn("Could not update driver manifest {}: {}", MANIFEST_PATH, e.getMessage());
+        }
+    }
+
+    private static WebDriverManager managerFor(String browser) {
+        switch (browser) {
+            case "chrome":
+                return WebDriverManager.chromedriver();
+            case "firefox":
+                return WebDriverManager.firefoxdriver();
+            case "edge":
+                return WebDriverManager.edgedriver();
+            default:
+                throw new IllegalArgumentException("Unsupported browser: " + browser);
+        }
+    }
+
+    private static String driverProperty(String browser) {
+        switch (browser) {
+            case "chrome":
+                return ChromeDriverService.CHROME_DRIVER_EXE_PROPERTY;
+            case "firefox":
+                return GeckoDriverService.GECKO_DRIVER_EXE_PROPERTY;
+            case "edge":
+                return EdgeDriverService.EDGE_DRIVER_EXE_PROPERTY;
+            default:
+                throw new IllegalArgumentException("Unsupported browser: " + browser);
+        }
+    }
+}
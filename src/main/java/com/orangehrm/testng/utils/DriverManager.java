@@ -1,5 +1,9 @@
 package com.orangehrm.testng.utils;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.slf4j.Logger;
@@ -17,6 +21,11 @@ import org.slf4j.LoggerFactory;
  * - Initializes WebDriver for different browsers using BrowserFactory.
  * - Manages WebDriver instances with ThreadLocal to ensure thread-safety.
  * - Provides methods to set, get, and quit WebDriver instances.
+ * - Optionally leases warm sessions from a bounded {@link DriverSessionPool} instead of launching a browser per class.
+ * - Optionally isolates test classes in fresh windows/BiDi user contexts of one browser per worker thread
+ *   (driver.isolation=context) instead of separate browsers.
+ * - Reports ownership changes to {@link SessionRegistry}, which reaps leaked sessions.
+ * - Hands local sessions to {@link ResourceSampler} for CPU/memory telemetry when enabled.
  * - Supports logging for each operation related to WebDriver management.
  *
  * Dependencies:
@@ -28,6 +37,19 @@ public class DriverManager {
     private static final Logger logger = LoggerFactory.getLogger(DriverManager.class);
     private static final ThreadLocal<WebDriver> driverThreadLocal = ThreadLocal.withInitial(() -> null);
 
+    private static final ThreadLocal<WebDriver> workerHostThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<DriverSessionPool.SessionKey> workerKeyThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<IsolatedBrowserContext> contextThreadLocal = new ThreadLocal<>();
+    private static final Set<WebDriver> unpooledWorkerHosts = ConcurrentHashMap.newKeySet();
+    private static final AtomicBoolean workerHostHookRegistered = new AtomicBoolean(false);
+
+    private static final boolean CONTEXT_ISOLATION = "context".equalsIgnoreCase(ConfigManager.getProperty("driver.isolation", "session"));
+    private static final boolean POOL_ENABLED = Boolean.parseBoolean(ConfigManager.getProperty("driver.pool.enabled", "false"));
+    private static final DriverSessionPool sessionPool = new DriverSessionPool(
+            DriverManager::createSession,
+            Integer.parseInt(ConfigManager.getProperty("driver.pool.max.size", "4")),
+            Long.parseLong(ConfigManager.getProperty("driver.pool.lease.timeout.seconds", "120")));
+
     /**
      * Set the WebDriver instance for the current thread.
      *
@@ -40,11 +62,18 @@ public class DriverManager {
             throw new IllegalArgumentException("WebDriver cannot be null.");
         }
 
-        if (driverThreadLocal.get() != null) {
+        WebDriver previous = driverThreadLocal.get();
+        if (previous != null) {
             logger.debug("Reinitializing WebDriver instance.");
+            if (previous != driver && previous != workerHostThreadLocal.get()) {
+                // a reused thread left its session (pooled or not) behind without releasing it
+                SessionRegistry.markOrphaned(previous);
+            }
         }
 
         driverThreadLocal.set(driver);
+        SessionRegistry.markOwned(driver);
+        ResourceSampler.track(driver);
         logger.info("WebDriver instance set for the current thread: {}", driver.getClass().getSimpleName());
     }
 
@@ -60,9 +89,20 @@ public class DriverManager {
             logger.error("No WebDriver instance found for the current thread.");
             throw new IllegalStateException("No WebDriver instance found for the current thread.");
         }
+        SessionRegistry.touch(driver);
         return driver;
     }
 
+    /**
+     * Get the WebDriver instance for the current thread, if it has one, e.g. for listeners that also run
+     * on threads without a browser. Unlike {@link #getDriver()} this neither logs nor marks the session as used.
+     *
+     * @return The WebDriver instance, or null if none is set for the current thread.
+     */
+    public static WebDriver getDriverIfPresent() {
+        return driverThreadLocal.get();
+    }
+
     /**
      * Initialize a WebDriver instance using BrowserFactory or RemoteWebDriver based on configuration.
      *
@@ -94,14 +134,168 @@ public class DriverManager {
         }
     }
 
+    /**
+     * Acquire a WebDriver for the current thread. When the session pool is enabled
+     * (driver.pool.enabled=true) a warm session is leased from the pool, otherwise a new browser is launched.
+     *
+     * @param browser    The browser name (e.g., "chrome", "firefox").
+     * @param isHeadless If true, the WebDriver will be initialized in headless mode.
+     * @param isRemote   If true, the session is created on the Selenium Grid.
+     * @return The WebDriver bound to the current thread.
+     */
+    public static WebDriver acquireDriver(String browser, boolean isHeadless, boolean isRemote) {
+        if (CONTEXT_ISOLATION) {
+            return openIsolatedContext(new DriverSessionPool.SessionKey(browser, isHeadless, isRemote));
+        }
+        WebDriver driver;
+        if (POOL_ENABLED) {
+            logger.info("Leasing pooled WebDriver for browser: {} (Remote: {}, Headless: {})", browser, isRemote, isHeadless);
+            driver = sessionPool.lease(new DriverSessionPool.SessionKey(browser, isHeadless, isRemote));
+        } else {
+            driver = createSession(new DriverSessionPool.SessionKey(browser, isHeadless, isRemote));
+        }
+        setDriver(driver);
+        return driver;
+    }
+
+    /**
+     * Release the WebDriver of the current thread. Pooled sessions are reset and returned to the pool,
+     * any other session is quit.
+     */
+    public static void releaseDriver() {
+        WebDriver driver = driverThreadLocal.get();
+        if (driver == null) {
+            logger.warn("No WebDriver instance found to release.");
+            return;
+        }
+        if (contextThreadLocal.get() != null) {
+            closeIsolatedContext();
+        } else if (sessionPool.isLeased(driver)) {
+            try {
+                sessionPool.release(driver);
+                SessionRegistry.markReleased(driver);
+                logger.info("WebDriver instance returned to the session pool.");
+            } finally {
+                driverThreadLocal.remove();
+            }
+        } else {
+            quitDriver();
+        }
+    }
+
+    /**
+     * Opens a fresh isolated context in the current worker's browser, starting that browser on first use.
+     */
+    private static WebDriver openIsolatedContext(DriverSessionPool.SessionKey key) {
+        WebDriver host = workerHostThreadLocal.get();
+        if (host != null && !key.equals(workerKeyThreadLocal.get())) {
+            logger.info("Worker browser {} does not match {}, replacing it.", workerKeyThreadLocal.get(), key);
+            discardWorkerHost(host);
+            host = null;
+        }
+        if (host == null) {
+            if (POOL_ENABLED) {
+                host = sessionPool.lease(key);
+            } else {
+                host = createSession(key);
+                unpooledWorkerHosts.add(host);
+                if (workerHostHookRegistered.compareAndSet(false, true)) {
+                    Runtime.getRuntime().addShutdownHook(new Thread(DriverManager::quitWorkerHosts, "worker-host-shutdown"));
+                }
+            }
+            workerHostThreadLocal.set(host);
+            workerKeyThreadLocal.set(key);
+            logger.info("Started worker browser {} for thread {}", key, Thread.currentThread().getName());
+        }
+        try {
+            IsolatedBrowserContext context = IsolatedBrowserContext.open(host);
+            contextThreadLocal.set(context);
+            setDriver(host);
+            logger.info("Opened isolated {} for the current thread.", context.isUserContext() ? "BiDi user context" : "window");
+            return host;
+        } catch (WebDriverException e) {
+            logger.error("Worker browser unusable, discarding it: {}", e.getMessage());
+            discardWorkerHost(host);
+            throw e;
+        }
+    }
+
+    private static void closeIsolatedContext() {
+        IsolatedBrowserContext context = contextThreadLocal.get();
+        try {
+            context.close();
+            logger.info("Isolated context closed; worker browser kept for the next class.");
+        } catch (WebDriverException e) {
+            logger.error("Failed to close isolated context, discarding worker browser: {}", e.getMessage());
+            discardWorkerHost(context.getDriver());
+        } finally {
+            contextThreadLocal.remove();
+            driverThreadLocal.remove();
+        }
+    }
+
+    private static void discardWorkerHost(WebDriver host) {
+        workerHostThreadLocal.remove();
+        workerKeyThreadLocal.remove();
+        IsolatedBrowserContext.release(host);
+        if (sessionPool.isLeased(host)) {
+            sessionPool.discard(host);
+        } else {
+            unpooledWorkerHosts.remove(host);
+            try {
+                host.quit();
+            } catch (WebDriverException e) {
+                logger.debug("Error while quitting worker browser: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static void quitWorkerHosts() {
+        for (WebDriver host : unpooledWorkerHosts) {
+            IsolatedBrowserContext.release(host);
+            try {
+                host.quit();
+            } catch (WebDriverException e) {
+                logger.debug("Error while quitting worker browser: {}", e.getMessage());
+            }
+        }
+        unpooledWorkerHosts.clear();
+    }
+
+    /**
+     * @return true if test classes share a worker browser and get isolated contexts (driver.isolation=context).
+     */
+    public static boolean isContextIsolation() {
+        return CONTEXT_ISOLATION;
+    }
+
+    /**
+     * @return The shared session pool, for metrics and suite-level lifecycle hooks.
+     */
+    public static DriverSessionPool getSessionPool() {
+        return sessionPool;
+    }
+
+    /**
+     * @return true if sessions are leased from the pool (driver.pool.enabled).
+     */
+    public static boolean isPoolEnabled() {
+        return POOL_ENABLED;
+    }
+
     /**
      * Quit the WebDriver instance and remove it from ThreadLocal.
+     * A pooled session is discarded so that its pool slot is freed.
      */
     public static void quitDriver() {
         WebDriver driver = driverThreadLocal.get();
         if (driver != null) {
             try {
-                driver.quit();
+                if (sessionPool.isLeased(driver)) {
+                    sessionPool.discard(driver);
+                } else {
+                    driver.quit();
+                }
                 logger.info("WebDriver instance quit successfully.");
             } catch (WebDriverException e) {
                 logger.error("Error while quitting WebDriver: {}", e.getMessage());
@@ -113,4 +307,10 @@ public class DriverManager {
             logger.warn("No WebDriver instance found to quit.");
         }
     }
+
+    private static WebDriver createSession(DriverSessionPool.SessionKey key) {
+        return key.isRemote()
+                ? BrowserFactory.getRemoteDriver(key.getBrowser(), key.isHeadless())
+                : BrowserFactory.getDriver(key.getBrowser(), key.isHeadless());
+    }
 }
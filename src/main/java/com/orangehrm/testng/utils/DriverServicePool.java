@@ -0,0 +1,378 @@
+package com.orangehrm.testng.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.os.ExternalProcess;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class Name: DriverServicePool
+ *
+ * Description:
+ * Keeps a small number of long-lived driver server processes (chromedriver, geckodriver, msedgedriver)
+ * per browser and attaches new sessions to them, instead of spawning and port-binding a new driver
+ * process for every session. Sessions are the browser's own driver class (ChromeDriver, FirefoxDriver,
+ * EdgeDriver) attached to a running service; quitting a session ends only that session and leaves the
+ * service running for the next one.
+ *
+ * Key Features:
+ * - Configurable number of services per browser (driver.service.pool.size[.&lt;browser&gt;]).
+ * - Configurable session-to-service assignment: round-robin, least-sessions or thread-affinity.
+ * - Per-service session capacity; geckodriver only ever hosts one session at a time.
+ * - Services that are no longer running are replaced before a session is assigned.
+ * - Falls back to a dedicated driver process when every pooled service is at capacity.
+ * - Stops all services on JVM exit.
+ *
+ * Dependencies:
+ * - Selenium WebDriver for browser automation.
+ * - DriverBinaryResolver for locating the driver executables.
+ * - SLF4J (Log4j) for logging.
+ */
+public class DriverServicePool {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverServicePool.class);
+    private static final Duration ATTACH_TIMEOUT = Duration.ofSeconds(20);
+
+    /**
+     * How a new session picks one of the browser's services.
+     */
+    public enum AssignmentStrategy {
+        ROUND_ROBIN, LEAST_SESSIONS, THREAD_AFFINITY;
+
+        static AssignmentStrategy fromConfig(String value) {
+            return valueOf(value.trim().toUpperCase().replace('-', '_'));
+        }
+    }
+
+    private final boolean enabled;
+    private final AssignmentStrategy strategy;
+    private final Map<String, List<PooledService>> servicesByBrowser = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> roundRobinCounters = new ConcurrentHashMap<>();
+    private final AtomicBoolean shutdownHookRegistered = new AtomicBoolean(false);
+
+    public DriverServicePool() {
+        this.enabled = Boolean.parseBoolean(ConfigManager.getProperty("driver.service.pool.enabled", "false"));
+        this.strategy = AssignmentStrategy.fromConfig(ConfigManager.getProperty("driver.service.assignment", "least-sessions"));
+    }
+
+    /**
+     * Starts a session on one of the pooled services for the browser.
+     *
+     * @param browser The browser name ("chrome", "firefox" or "edge").
+     * @param options The browser options for the new session.
+     * @return The new session, or empty when pooling is disabled or every service is at capacity.
+     */
+    public Optional<WebDriver> newSession(String browser, Capabilities options) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        PooledService service = reserve(browser.toLowerCase());
+        if (service == null) {
+            logger.info("All pooled {} driver services are at capacity, using a dedicated driver process", browser);
+            return Optional.empty();
+        }
+        try {
+            RemoteWebDriver driver = attach(browser.toLowerCase(), service.driverService, options);
+            service.bind(driver);
+            logger.debug("Attached {} session {} to driver service {}", browser, driver.getSessionId(), service.driverService.getUrl());
+            return Optional.of(driver);
+        } catch (RuntimeException e) {
+            service.unreserve();
+            throw e;
+        }
+    }
+
+    /**
+     * Stops every pooled driver service.
+     */
+    public void shutdown() {
+        int stopped = 0;
+        for (List<PooledService> services : servicesByBrowser.values()) {
+            synchronized (services) {
+                for (PooledService service : services) {
+                    try {
+                        service.driverService.stop();
+                        stopped++;
+                    } catch (RuntimeException e) {
+                        logger.debug("Error while stopping driver service: {}", e.getMessage());
+                    }
+                }
+                services.clear();
+            }
+        }
+        logger.info("Driver service pool shut down, {} service(s) stopped.", stopped);
+    }
+
+    /**
+     * Picks a running service with free capacity according to the assignment strategy and reserves a slot on it.
+     */
+    private PooledService reserve(String browser) {
+        List<PooledService> services = servicesFor(browser);
+        synchronized (services) {
+            replaceStoppedServices(browser, services);
+            int size = services.size();
+            if (size == 0) {
+                return null;
+            }
+            int preferred;
+            switch (strategy) {
+                case ROUND_ROBIN:
+                    preferred = Math.floorMod(roundRobinCounters.computeIfAbsent(browser, b -> new AtomicInteger()).getAndIncrement(), size);
+                    break;
+                case THREAD_AFFINITY:
+                    preferred = (int) Math.floorMod(Thread.currentThread().getId(), (long) size);
+                    break;
+                default:
+                    preferred = leastLoaded(services);
+                    break;
+            }
+            for (int i = 0; i < size; i++) {
+                PooledService candidate = services.get((preferred + i) % size);
+                if (candidate.tryReserve()) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Restarts services whose driver process has exited (crashed or killed); their sessions died with them.
+     */
+    private void replaceStoppedServices(String browser, List<PooledService> services) {
+        for (ListIterator<PooledService> it = services.listIterator(); it.hasNext(); ) {
+            PooledService service = it.next();
+            if (service.driverService.isRunning()) {
+                continue;
+            }
+            logger.warn("Pooled {} driver service at {} is no longer running, replacing it", browser, service.driverService.getUrl());
+            try {
+                service.driverService.stop();
+            } catch (RuntimeException e) {
+                logger.debug("Error while stopping driver service: {}", e.getMessage());
+            }
+            try {
+                it.set(new PooledService(startService(browser), service.capacity));
+            } catch (RuntimeException e) {
+                logger.warn("Could not replace {} driver service: {}", browser, e.getMessage());
+                it.remove();
+            }
+        }
+    }
+
+    private int leastLoaded(List<PooledService> services) {
+        int best = 0;
+        for (int i = 1; i < services.size(); i++) {
+            if (services.get(i).activeSessions() < services.get(best).activeSessions()) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private List<PooledService> servicesFor(String browser) {
+        List<PooledService> services = servicesByBrowser.computeIfAbsent(browser, b -> new ArrayList<>());
+        synchronized (services) {
+            if (services.isEmpty()) {
+                int poolSize = Integer.parseInt(ConfigManager.getProperty("driver.service.pool.size." + browser,
+                        ConfigManager.getProperty("driver.service.pool.size", "2")));
+                // geckodriver serves a single session per process
+                int capacity = "firefox".equals(browser) ? 1
+                        : Integer.parseInt(ConfigManager.getProperty("driver.service.max.sessions", "8"));
+                registerShutdownHook();
+                for (int i = 0; i < poolSize; i++) {
+                    services.add(new PooledService(startService(browser), capacity));
+                }
+                logger.info("Started {} pooled {} driver service(s) (capacity {} session(s) each, assignment {})",
+                        poolSize, browser, capacity, strategy);
+            }
+        }
+        return services;
+    }
+
+    private DriverService startService(String browser) {
+        File executable = new File(DriverBinaryResolver.resolve(browser));
+        DriverService service;
+        switch (browser) {
+            case "chrome":
+                service = new ChromeDriverService.Builder().usingDriverExecutable(executable).usingAnyFreePort().build();
+                break;
+            case "firefox":
+                service = new GeckoDriverService.Builder().usingDriverExecutable(executable).usingAnyFreePort().build();
+                break;
+            case "edge":
+                service = new EdgeDriverService.Builder().usingDriverExecutable(executable).usingAnyFreePort().build();
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported browser: " + browser);
+        }
+        try {
+            service.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start " + browser + " driver service", e);
+        }
+        return service;
+    }
+
+    /**
+     * Starts a session of the browser's own driver class on a pooled service. The driver is given a view
+     * of the service backed by an {@link AttachedProcess}: a typed driver stops its service when the
+     * session quits, and stopping the view only detaches it, so the pooled service outlives its sessions.
+     */
+    private static RemoteWebDriver attach(String browser, DriverService pooled, Capabilities options) {
+        File executable = new File(pooled.getExecutable());
+        int port = pooled.getUrl().getPort();
+        try {
+            switch (browser) {
+                case "chrome":
+                    return new ChromeDriver(new ChromeDriverService(executable, port, ATTACH_TIMEOUT, List.of(), Map.of()) {
+                        {
+                            process = new AttachedProcess(pooled);
+                        }
+
+                        @Override
+                        public void stop() {
+                            process.shutdown();
+                        }
+                    }, new ChromeOptions().merge(options));
+                case "firefox":
+                    return new FirefoxDriver(new GeckoDriverService(executable, port, ATTACH_TIMEOUT, List.of(), Map.of()) {
+                        {
+                            process = new AttachedProcess(pooled);
+                        }
+
+                        @Override
+                        public void stop() {
+                            process.shutdown();
+                        }
+                    }, new FirefoxOptions().merge(options));
+                case "edge":
+                    return new EdgeDriver(new EdgeDriverService(executable, port, ATTACH_TIMEOUT, List.of(), Map.of()) {
+                        {
+                            process = new AttachedProcess(pooled);
+                        }
+
+                        @Override
+                        public void stop() {
+                            process.shutdown();
+                        }
+                    }, new EdgeOptions().merge(options));
+                default:
+                    throw new IllegalArgumentException("Unsupported browser: " + browser);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to attach to " + browser + " driver service at " + pooled.getUrl(), e);
+        }
+    }
+
+    private void registerShutdownHook() {
+        if (shutdownHookRegistered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-service-pool-shutdown"));
+        }
+    }
+
+    /**
+     * A running driver service and the sessions attached to it. A session counts as active until
+     * it is quit, which RemoteWebDriver signals by clearing its session id.
+     */
+    private static final class PooledService {
+        private final DriverService driverService;
+        private final int capacity;
+        private final List<RemoteWebDriver> sessions = new ArrayList<>();
+        private int reserved;
+
+        private PooledService(DriverService driverService, int capacity) {
+            this.driverService = driverService;
+            this.capacity = capacity;
+        }
+
+        private synchronized boolean tryReserve() {
+            if (!driverService.isRunning() || activeSessions() + reserved >= capacity) {
+                return false;
+            }
+            reserved++;
+            return true;
+        }
+
+        private synchronized void unreserve() {
+            reserved--;
+        }
+
+        private synchronized void bind(RemoteWebDriver driver) {
+            reserved--;
+            sessions.add(driver);
+        }
+
+        private synchronized int activeSessions() {
+            for (Iterator<RemoteWebDriver> it = sessions.iterator(); it.hasNext(); ) {
+                if (it.next().getSessionId() == null) {
+                    it.remove();
+                }
+            }
+            return sessions.size();
+        }
+    }
+
+    /**
+     * Stands in for the pooled driver process inside one session's service view. It is alive while the
+     * pooled service runs and the session is attached; shutting it down detaches the session, which also
+     * ends the driver's wait for the process to exit when the session quits.
+     */
+    private static final class AttachedProcess extends ExternalProcess {
+        private final DriverService pooled;
+        private final CountDownLatch detached = new CountDownLatch(1);
+
+        private AttachedProcess(DriverService pooled) {
+            super(null, null, null);
+            this.pooled = pooled;
+        }
+
+        @Override
+        public boolean isAlive() {
+            return detached.getCount() > 0 && pooled.isRunning();
+        }
+
+        @Override
+        public boolean waitFor(Duration duration) throws InterruptedException {
+            return detached.await(duration.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void shutdown() {
+            detached.countDown();
+        }
+
+        @Override
+        public void shutdown(Duration timeout) {
+            detached.countDown();
+        }
+    }
+}
@@ -0,0 +1,505 @@
+package com.orangehrm.testng.utils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class Name: DriverSessionPool
+ *
+ * Description:
+ * A bounded, keyed pool of warm WebDriver sessions. Sessions are keyed by browser, headless flag and
+ * remote flag, leased to a test class and returned when the class finishes instead of being quit.
+ * Returned sessions are reset (extra windows closed, cookies and storage cleared, navigated to about:blank)
+ * and health-checked again before they are handed to the next lease.
+ *
+ * Key Features:
+ * - At most {@code maxSessionsPerKey} sessions exist per key; further leases wait up to the lease timeout.
+ * - Idle sessions are reused most-recently-returned first so the warmest browser is picked.
+ * - Sessions can be pre-warmed asynchronously; leases wait for an in-flight pre-warm instead of launching another browser.
+ * - Exposes lease-wait timing and the session reuse rate.
+ * - Quits every pooled session on JVM shutdown.
+ *
+ * Dependencies:
+ * - Selenium WebDriver for browser automation.
+ * - SLF4J (Log4j) for logging.
+ */
+public class DriverSessionPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverSessionPool.class);
+
+    private final Function<SessionKey, WebDriver> sessionFactory;
+    private final int maxSessionsPerKey;
+    private final long leaseTimeoutSeconds;
+
+    private final Map<SessionKey, KeyedSessions> sessionsByKey = new ConcurrentHashMap<>();
+    private final Map<WebDriver, SessionKey> leasedSessions = new ConcurrentHashMap<>();
+    private final AtomicBoolean shutdownHookRegistered = new AtomicBoolean(false);
+
+    private final TimingStats leaseWaitStats = new TimingStats();
+    private final LongAdder createdSessions = new LongAdder();
+    private final LongAdder reusedSessions = new LongAdder();
+    private final LongAdder discardedSessions = new LongAdder();
+
+    private final Map<WebDriver, Long> prewarmedStartupMillis = new ConcurrentHashMap<>();
+    private final Map<String, TimingStats> hiddenStartupByBrowser = new ConcurrentHashMap<>();
+    private volatile ExecutorService prewarmExecutor;
+
+    /**
+     * Creates a pool.
+     *
+     * @param sessionFactory      Creates a new session for a key when no idle one is available.
+     * @param maxSessionsPerKey   Maximum number of live sessions per key.
+     * @param leaseTimeoutSeconds How long a lease waits for a free slot before failing.
+     */
+    public DriverSessionPool(Function<SessionKey, WebDriver> sessionFactory, int maxSessionsPerKey, long leaseTimeoutSeconds) {
+        if (maxSessionsPerKey < 1) {
+            throw new IllegalArgumentException("maxSessionsPerKey must be at least 1 but was " + maxSessionsPerKey);
+        }
+        this.sessionFactory = Objects.requireNonNull(sessionFactory, "sessionFactory");
+        this.maxSessionsPerKey = maxSessionsPerKey;
+        this.leaseTimeoutSeconds = leaseTimeoutSeconds;
+    }
+
+    /**
+     * Leases a session for the given key, reusing a healthy idle session when one exists.
+     *
+     * @param key The session key.
+     * @return A WebDriver owned by the caller until it is released or discarded.
+     * @throws IllegalStateException if no slot frees up within the lease timeout.
+     */
+    public WebDriver lease(SessionKey key) {
+        KeyedSessions sessions = sessionsFor(key);
+        long start = System.nanoTime();
+        try {
+            if (!sessions.permits.tryAcquire(leaseTimeoutSeconds, TimeUnit.SECONDS)) {
+                logger.error("Timed out after {}s waiting for a pooled session for {}", leaseTimeoutSeconds, key);
+                throw new IllegalStateException("Timed out waiting for a pooled WebDriver session for " + key);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled WebDriver session for " + key, e);
+        }
+        long waited = leaseWaitStats.recordSince(start);
+        logger.debug("Lease slot for {} acquired after {} ms", key, waited);
+
+        try {
+            WebDriver driver;
+            while ((driver = nextIdle(sessions)) != null) {
+                if (isHealthy(driver)) {
+                    reusedSessions.increment();
+                    leasedSessions.put(driver, key);
+                    recordHiddenStartup(key, driver, (System.nanoTime() - start) / 1_000_000);
+                    logger.info("Reusing pooled {} session", key);
+                    return driver;
+                }
+                prewarmedStartupMillis.remove(driver);
+                logger.warn("Pooled {} session failed health check, discarding it", key);
+                quitQuietly(driver);
+                discardedSessions.increment();
+            }
+
+            registerShutdownHook();
+            driver = sessionFactory.apply(key);
+            createdSessions.increment();
+            leasedSessions.put(driver, key);
+            logger.info("Created new pooled {} session", key);
+            return driver;
+        } catch (RuntimeException e) {
+            sessions.permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Launches up to {@code count} sessions for the key in parallel and parks them as idle sessions.
+     * Idle, leased and in-flight sessions all count towards the per-key bound, so the pool never holds
+     * more than {@code maxSessionsPerKey} live sessions for a key.
+     *
+     * @param key   The session key.
+     * @param count Number of sessions to launch.
+     * @return A future that completes when every launch has finished (successfully or not).
+     */
+    public CompletableFuture<Void> prewarm(SessionKey key, int count) {
+        KeyedSessions sessions = sessionsFor(key);
+        List<CompletableFuture<Void>> launches = new ArrayList<>();
+        synchronized (sessions) {
+            for (int i = 0; i < count; i++) {
+                // idle sessions hold no permit, so the permit alone does not bound them
+                if (liveSessions(key, sessions) >= maxSessionsPerKey || !sessions.permits.tryAcquire()) {
+                    logger.info("Pool for {} is full, pre-warming {} of {} requested session(s)", key, i, count);
+                    break;
+                }
+                sessions.pendingPrewarms.incrementAndGet();
+                launches.add(CompletableFuture.runAsync(() -> prewarmOne(key, sessions), prewarmExecutor()));
+            }
+        }
+        return CompletableFuture.allOf(launches.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * @return Idle, leased and pre-warming sessions of the key.
+     */
+    private int liveSessions(SessionKey key, KeyedSessions sessions) {
+        long leased = leasedSessions.values().stream().filter(key::equals).count();
+        return sessions.idle.size() + (int) leased + sessions.pendingPrewarms.get();
+    }
+
+    private void prewarmOne(SessionKey key, KeyedSessions sessions) {
+        long start = System.nanoTime();
+        try {
+            registerShutdownHook();
+            WebDriver driver = sessionFactory.apply(key);
+            long startupMillis = (System.nanoTime() - start) / 1_000_000;
+            createdSessions.increment();
+            prewarmedStartupMillis.put(driver, startupMillis);
+            // the pre-warm thread does not own the session; it waits unowned until leased
+            SessionRegistry.markReleased(driver);
+            sessions.idle.offerLast(driver);
+            logger.info("Pre-warmed {} session in {} ms", key, startupMillis);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to pre-warm {} session: {}", key, e.getMessage());
+        } finally {
+            sessions.pendingPrewarms.decrementAndGet();
+            sessions.permits.release();
+        }
+    }
+
+    /**
+     * Takes the next idle session, waiting for in-flight pre-warms of the same key before giving up.
+     */
+    private WebDriver nextIdle(KeyedSessions sessions) {
+        WebDriver driver = sessions.idle.pollFirst();
+        try {
+            while (driver == null && sessions.pendingPrewarms.get() > 0) {
+                driver = sessions.idle.pollFirst(250, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return driver;
+    }
+
+    /**
+     * The first lease of a pre-warmed session hides its startup time, minus however long the lease waited for it.
+     */
+    private void recordHiddenStartup(SessionKey key, WebDriver driver, long leaseWaitMillis) {
+        Long startupMillis = prewarmedStartupMillis.remove(driver);
+        if (startupMillis != null) {
+            hiddenStartupByBrowser.computeIfAbsent(key.getBrowser(), b -> new TimingStats())
+                    .record(Math.max(0, startupMillis - leaseWaitMillis));
+        }
+    }
+
+    private ExecutorService prewarmExecutor() {
+        if (prewarmExecutor == null) {
+            synchronized (this) {
+                if (prewarmExecutor == null) {
+                    AtomicInteger threadIndex = new AtomicInteger();
+                    prewarmExecutor = Executors.newCachedThreadPool(runnable -> {
+                        Thread thread = new Thread(runnable, "driver-prewarm-" + threadIndex.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return prewarmExecutor;
+    }
+
+    /**
+     * Returns a leased session to the pool after resetting it. Sessions that cannot be reset are quit.
+     *
+     * @param driver The leased WebDriver.
+     */
+    public void release(WebDriver driver) {
+        SessionKey key = leasedSessions.remove(driver);
+        if (key == null) {
+            logger.warn("Released a WebDriver that was not leased from the pool; quitting it instead.");
+            quitQuietly(driver);
+            return;
+        }
+        KeyedSessions sessions = sessionsFor(key);
+        try {
+            if (resetSession(driver)) {
+                sessions.idle.offerFirst(driver);
+                logger.debug("Returned {} session to the pool ({} idle)", key, sessions.idle.size());
+            } else {
+                logger.warn("{} session has no windows left, discarding it", key);
+                quitQuietly(driver);
+                discardedSessions.increment();
+            }
+        } catch (WebDriverException e) {
+            logger.warn("Could not reset {} session, discarding it: {}", key, e.getMessage());
+            quitQuietly(driver);
+            discardedSessions.increment();
+        } finally {
+            sessions.permits.release();
+        }
+    }
+
+    /**
+     * Quits a leased or idle session and frees its slot without returning it to the pool.
+     *
+     * @param driver The pooled WebDriver.
+     */
+    public void discard(WebDriver driver) {
+        SessionKey key = leasedSessions.remove(driver);
+        boolean wasIdle = key == null && sessionsByKey.values().stream().anyMatch(sessions -> sessions.idle.remove(driver));
+        quitQuietly(driver);
+        if (key != null) {
+            discardedSessions.increment();
+            sessionsFor(key).permits.release();
+        } else if (wasIdle) {
+            prewarmedStartupMillis.remove(driver);
+            discardedSessions.increment();
+        }
+    }
+
+    /**
+     * @param driver A WebDriver instance.
+     * @return true if the driver is currently leased from this pool.
+     */
+    public boolean isLeased(WebDriver driver) {
+        return driver != null && leasedSessions.containsKey(driver);
+    }
+
+    /**
+     * @param driver A WebDriver instance.
+     * @return true if the driver belongs to this pool, leased or idle.
+     */
+    public boolean contains(WebDriver driver) {
+        return isLeased(driver) || (driver != null && sessionsByKey.values().stream().anyMatch(sessions -> sessions.idle.contains(driver)));
+    }
+
+    /**
+     * Quits every idle and leased session.
+     */
+    public void shutdown() {
+        if (prewarmExecutor != null) {
+            prewarmExecutor.shutdownNow();
+        }
+        int closed = 0;
+        for (KeyedSessions sessions : sessionsByKey.values()) {
+            WebDriver driver;
+            while ((driver = sessions.idle.pollFirst()) != null) {
+                quitQuietly(driver);
+                closed++;
+            }
+        }
+        for (Iterator<WebDriver> it = leasedSessions.keySet().iterator(); it.hasNext(); ) {
+            quitQuietly(it.next());
+            it.remove();
+            closed++;
+        }
+        logger.info("Driver session pool shut down, {} session(s) closed. {}", closed, describeMetrics());
+    }
+
+    public TimingStats getLeaseWaitStats() {
+        return leaseWaitStats;
+    }
+
+    public long getCreatedCount() {
+        return createdSessions.sum();
+    }
+
+    public long getReusedCount() {
+        return reusedSessions.sum();
+    }
+
+    public long getDiscardedCount() {
+        return discardedSessions.sum();
+    }
+
+    /**
+     * @return The fraction of leases served by an already running session (0.0 - 1.0).
+     */
+    public double getReuseRate() {
+        long leases = getCreatedCount() + getReusedCount();
+        return leases == 0 ? 0.0 : (double) getReusedCount() / leases;
+    }
+
+    /**
+     * @return A one-line summary of the pool metrics for logs and reports.
+     */
+    public String describeMetrics() {
+        return String.format("Pool metrics - created: %d, reused: %d, discarded: %d, reuse rate: %.1f%%, lease wait: [%s]",
+                getCreatedCount(), getReusedCount(), getDiscardedCount(), getReuseRate() * 100, leaseWaitStats);
+    }
+
+    /**
+     * Clears the pool metrics, e.g. at the start of a suite. Pooled sessions are kept.
+     */
+    public void resetMetrics() {
+        leaseWaitStats.reset();
+        createdSessions.reset();
+        reusedSessions.reset();
+        discardedSessions.reset();
+        hiddenStartupByBrowser.clear();
+    }
+
+    /**
+     * @return Startup latency hidden by pre-warming, per browser (sorted by browser name).
+     */
+    public Map<String, TimingStats> getHiddenStartupByBrowser() {
+        return new TreeMap<>(hiddenStartupByBrowser);
+    }
+
+    /**
+     * @return A one-line summary of hidden startup latency per browser.
+     */
+    public String describeHiddenStartup() {
+        if (hiddenStartupByBrowser.isEmpty()) {
+            return "No pre-warmed sessions were leased.";
+        }
+        StringBuilder summary = new StringBuilder("Startup latency hidden by pre-warming -");
+        getHiddenStartupByBrowser().forEach((browser, stats) -> summary
+                .append(' ').append(browser).append(": ").append(stats.getTotalMillis())
+                .append(" ms over ").append(stats.getCount()).append(" session(s);"));
+        return summary.toString();
+    }
+
+    private KeyedSessions sessionsFor(SessionKey key) {
+        return sessionsByKey.computeIfAbsent(key, k -> new KeyedSessions(maxSessionsPerKey));
+    }
+
+    private void registerShutdownHook() {
+        if (shutdownHookRegistered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-pool-shutdown"));
+        }
+    }
+
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            if (driver instanceof RemoteWebDriver && ((RemoteWebDriver) driver).getSessionId() == null) {
+                return false;
+            }
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Brings a session back to a neutral state: one window, no cookies or web storage, blank page.
+     *
+     * @param driver The session to reset.
+     * @return false if the session has no window left to reset, so it cannot be reused.
+     */
+    private boolean resetSession(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        if (handles.isEmpty()) {
+            return false;
+        }
+        String primaryHandle = handles.iterator().next();
+        for (String handle : handles) {
+            if (!handle.equals(primaryHandle)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        driver.switchTo().window(primaryHandle);
+        driver.manage().deleteAllCookies();
+        if (driver instanceof JavascriptExecutor) {
+            try {
+                ((JavascriptExecutor) driver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+            } catch (WebDriverException e) {
+                logger.debug("Web storage not accessible on current page: {}", e.getMessage());
+            }
+        }
+        driver.get("about:blank");
+        return true;
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            logger.debug("Error while quitting pooled WebDriver: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Idle sessions and lease permits for a single key.
+     */
+    private static final class KeyedSessions {
+        private final LinkedBlockingDeque<WebDriver> idle = new LinkedBlockingDeque<>();
+        private final AtomicInteger pendingPrewarms = new AtomicInteger();
+        private final Semaphore permits;
+
+        private KeyedSessions(int maxSessions) {
+            this.permits = new Semaphore(maxSessions, true);
+        }
+    }
+
+    /**
+     * Identifies interchangeable sessions: same browser, headless flag and local/remote mode.
+     */
+    public static final class SessionKey {
+        private final String browser;
+        private final boolean headless;
+        private final boolean remote;
+
+        public SessionKey(String browser, boolean headless, boolean remote) {
+            this.browser = Objects.requireNonNull(browser, "browser").toLowerCase();
+            this.headless = headless;
+            this.remote = remote;
+        }
+
+        public String getBrowser() {
+            return browser;
+        }
+
+        public boolean isHeadless() {
+            return headless;
+        }
+
+        public boolean isRemote() {
+            return remote;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SessionKey)) {
+                return false;
+            }
+            SessionKey other = (SessionKey) o;
+            return headless == other.headless && remote == other.remote && browser.equals(other.browser);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(browser, headless, remote);
+        }
+
+        @Override
+        public String toString() {
+            return browser + (headless ? "/headless" : "") + (remote ? "/remote" : "/local");
+        }
+    }
+}
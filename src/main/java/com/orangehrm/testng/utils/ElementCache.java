@@ -0,0 +1,203 @@
+package com.orangehrm.testng.utils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class Name: ElementCache
+ *
+ * Description:
+ * Page-scoped cache of located elements, keyed by locator. A page object keeps one per driver and
+ * asks it for an element before waiting for it again; a cached element is returned after one cheap
+ * validation call instead of a fresh wait and find.
+ *
+ * Key Features:
+ * - Validation in one script call: the element is still attached and visible (and enabled, for clickable
+ *   lookups), and the page is the same document at the same URL.
+ * - Navigation (new document or URL change) drops every cached element of the page.
+ * - On a miss the caller's normal wait path resolves the element, which is then cached.
+ * - Hit, miss and stale counters per locator, aggregated over all caches (element.cache.enabled).
+ *
+ * Lookups, validation and invalidation are synchronised on the cache; the wait resolving a miss is not,
+ * so one cache can serve a page's elements from several threads.
+ *
+ * Dependencies:
+ * - Selenium WebDriver (JavascriptExecutor).
+ * - SLF4J (Log4j) for logging.
+ */
+public class ElementCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ElementCache.class);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigManager.getProperty("element.cache.enabled", "false"));
+
+    // a random token stored on the window identifies the document; a new document has none until we set one
+    private static final String VALIDATE_SCRIPT = BrowserSideWait.DOM_FUNCTIONS + "\n" + String.join("\n",
+            "var el = arguments[0];",
+            "if (!window.__elementCacheToken) {",
+            "  window.__elementCacheToken = Date.now().toString(36) + Math.random().toString(36).slice(2);",
+            "}",
+            "return [window.__elementCacheToken, location.href, el.isConnected && visible(el), !(el.matches && el.matches(':disabled'))];");
+
+    private static final Map<By, Counters> counters = new ConcurrentHashMap<>();
+
+    private final WebDriver driver;
+    private final Map<By, WebElement> elements = new HashMap<>();
+    private String documentToken;
+    private String url;
+
+    public ElementCache(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Returns the cached element if it is still attached and visible, otherwise resolves and caches it.
+     *
+     * @param locator The element locator.
+     * @param onMiss  The normal wait path, e.g. a visibility wait.
+     * @return The element.
+     */
+    public WebElement visible(By locator, Supplier<WebElement> onMiss) {
+        return get(locator, false, onMiss);
+    }
+
+    /**
+     * Returns the cached element if it is still attached, visible and enabled, otherwise resolves and caches it.
+     *
+     * @param locator The element locator.
+     * @param onMiss  The normal wait path, e.g. a clickable wait.
+     * @return The element.
+     */
+    public WebElement clickable(By locator, Supplier<WebElement> onMiss) {
+        return get(locator, true, onMiss);
+    }
+
+    /**
+     * Drops every cached element, e.g. after an action known to replace the page content.
+     */
+    public synchronized void invalidate() {
+        elements.clear();
+        documentToken = null;
+        url = null;
+    }
+
+    /**
+     * @param locator The element locator.
+     * @return Hits, misses and stale entries recorded for the locator across all caches.
+     */
+    public static Counters getCounters(By locator) {
+        return counters.computeIfAbsent(locator, l -> new Counters());
+    }
+
+    /**
+     * @return One entry per locator with its hit, miss and stale counts, for suite logs.
+     */
+    public static String describeMetrics() {
+        return "Element cache - " + counters.entrySet().stream()
+                .map(e -> e.getKey() + " " + e.getValue())
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Clears the hit, miss and stale counts of every locator.
+     */
+    public static void resetMetrics() {
+        counters.clear();
+    }
+
+    private WebElement get(By locator, boolean requireEnabled, Supplier<WebElement> onMiss) {
+        Counters stats = getCounters(locator);
+        if (ENABLED) {
+            synchronized (this) {
+                WebElement cached = elements.get(locator);
+                if (cached != null) {
+                    if (isUsable(cached, requireEnabled)) {
+                        stats.hits.increment();
+                        return cached;
+                    }
+                    stats.stale.increment();
+                    elements.remove(locator);
+                }
+            }
+        }
+        stats.misses.increment();
+        // the wait runs outside the lock, so a slow element does not hold up the page's other elements
+        WebElement element = onMiss.get();
+        if (ENABLED && element != null) {
+            synchronized (this) {
+                elements.put(locator, element);
+            }
+        }
+        return element;
+    }
+
+    private boolean isUsable(WebElement element, boolean requireEnabled) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return false;
+        }
+        List<?> state;
+        try {
+            state = (List<?>) ((JavascriptExecutor) driver).executeScript(VALIDATE_SCRIPT, element);
+        } catch (StaleElementReferenceException e) {
+            return false;
+        } catch (WebDriverException e) {
+            logger.debug("Cached element could not be validated: {}", e.getMessage());
+            return false;
+        }
+        String currentToken = String.valueOf(state.get(0));
+        String currentUrl = String.valueOf(state.get(1));
+        if (documentToken != null && (!documentToken.equals(currentToken) || !url.equals(currentUrl))) {
+            logger.debug("Page changed from {} to {}, dropping {} cached element(s)", url, currentUrl, elements.size());
+            elements.clear();
+            documentToken = currentToken;
+            url = currentUrl;
+            return false;
+        }
+        documentToken = currentToken;
+        url = currentUrl;
+        return Boolean.TRUE.equals(state.get(2)) && (!requireEnabled || Boolean.TRUE.equals(state.get(3)));
+    }
+
+    /**
+     * Lookup outcomes for one locator.
+     */
+    public static final class Counters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder stale = new LongAdder();
+
+        public long getHits() {
+            return hits.sum();
+        }
+
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        /**
+         * @return Cached elements found detached, hidden or on a changed page (each also counted as a miss).
+         */
+        public long getStale() {
+            return stale.sum();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[hits=%d, misses=%d, stale=%d]", getHits(), getMisses(), getStale());
+        }
+    }
+}
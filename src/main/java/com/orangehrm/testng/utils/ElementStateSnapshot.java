@@ -0,0 +1,232 @@
+package com.orangehrm.testng.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class Name: ElementStateSnapshot
+ *
+ * Description:
+ * Reads the state of many elements in one executeScript call: presence, visibility, enabled state,
+ * text and value for every locator. Page objects and assertions can inspect a whole page from one
+ * snapshot instead of a find, isDisplayed, isEnabled and getText round trip per element.
+ *
+ * Key Features:
+ * - One round trip for any number of By.id, By.name, By.className, By.tagName, By.cssSelector and By.xpath locators.
+ * - Visibility uses the same in-page check as {@link BrowserSideWait}; text is the rendered text of visible
+ *   elements and empty otherwise, as with WebElement.getText().
+ * - Locators without a script equivalent, or browsers where scripts fail, are read through regular WebDriver calls.
+ *
+ * A snapshot is a point-in-time copy; re-capture after the page changes.
+ *
+ * Dependencies:
+ * - Selenium WebDriver (JavascriptExecutor).
+ * - SLF4J (Log4j) for logging.
+ */
+public final class ElementStateSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(ElementStateSnapshot.class);
+
+    private static final String DESCRIBE_FUNCTION = String.join("\n",
+            "function describe(el) {",
+            "  if (!el) { return null; }",
+            "  var shown = visible(el);",
+            "  return [el, shown, !(el.matches && el.matches(':disabled')), shown ? (el.innerText || '').trim() : '',",
+            "          typeof el.value === 'string' ? el.value : null];",
+            "}");
+
+    // arguments: [[kind, selector] or null, ...]; returns a describe() result per target
+    private static final String CAPTURE_SCRIPT = BrowserSideWait.DOM_FUNCTIONS + "\n" + DESCRIBE_FUNCTION + "\n"
+            + "return arguments[0].map(function (target) { return target ? describe(find(target)) : null; });";
+
+    private static final String ELEMENT_SCRIPT = BrowserSideWait.DOM_FUNCTIONS + "\n" + DESCRIBE_FUNCTION + "\n"
+            + "return describe(arguments[0]);";
+
+    private final Map<By, ElementState> states;
+
+    private ElementStateSnapshot(Map<By, ElementState> states) {
+        this.states = Collections.unmodifiableMap(states);
+    }
+
+    /**
+     * Captures the state of every locator.
+     *
+     * @param driver   The WebDriver instance.
+     * @param locators The locators to read.
+     * @return The snapshot.
+     */
+    public static ElementStateSnapshot capture(WebDriver driver, Collection<By> locators) {
+        long start = System.nanoTime();
+        List<By> ordered = new ArrayList<>(locators);
+        List<List<String>> targets = new ArrayList<>();
+        for (By locator : ordered) {
+            String[] selector = BrowserSideWait.toSelector(locator);
+            targets.add(selector == null ? null : Arrays.asList(selector));
+        }
+
+        List<?> results = null;
+        if (driver instanceof JavascriptExecutor) {
+            try {
+                results = (List<?>) ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT, targets);
+            } catch (JavascriptException e) {
+                logger.debug("Batched state query failed, reading elements one by one: {}", e.getMessage());
+            }
+        }
+
+        Map<By, ElementState> states = new LinkedHashMap<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            By locator = ordered.get(i);
+            if (results != null && targets.get(i) != null) {
+                states.put(locator, ElementState.from(results.get(i)));
+            } else {
+                List<WebElement> found = driver.findElements(locator);
+                states.put(locator, found.isEmpty() ? ElementState.ABSENT : ElementState.read(found.get(0)));
+            }
+        }
+        logger.debug("Captured state of {} locator(s) in {} ms", ordered.size(), (System.nanoTime() - start) / 1_000_000);
+        return new ElementStateSnapshot(states);
+    }
+
+    /**
+     * Reads the state of one already located element in a single round trip.
+     *
+     * @param driver  The WebDriver instance.
+     * @param element The element.
+     * @return Its state; not present if the element has gone stale.
+     */
+    public static ElementState stateOf(WebDriver driver, WebElement element) {
+        if (driver instanceof JavascriptExecutor) {
+            try {
+                return ElementState.from(((JavascriptExecutor) driver).executeScript(ELEMENT_SCRIPT, element));
+            } catch (StaleElementReferenceException e) {
+                return ElementState.ABSENT;
+            } catch (JavascriptException e) {
+                logger.debug("State query failed, reading element directly: {}", e.getMessage());
+            }
+        }
+        return ElementState.read(element);
+    }
+
+    /**
+     * @param locator A locator passed to {@link #capture}.
+     * @return Its captured state.
+     * @throws IllegalArgumentException if the locator was not part of the snapshot.
+     */
+    public ElementState get(By locator) {
+        ElementState state = states.get(locator);
+        if (state == null) {
+            throw new IllegalArgumentException("Locator not captured in this snapshot: " + locator);
+        }
+        return state;
+    }
+
+    /**
+     * @return Every captured state, in the order the locators were given.
+     */
+    public Map<By, ElementState> asMap() {
+        return states;
+    }
+
+    @Override
+    public String toString() {
+        return states.toString();
+    }
+
+    /**
+     * The state of one element at capture time.
+     */
+    public static final class ElementState {
+        private static final ElementState ABSENT = new ElementState(null, false, false, "", null);
+
+        private final WebElement element;
+        private final boolean visible;
+        private final boolean enabled;
+        private final String text;
+        private final String value;
+
+        private ElementState(WebElement element, boolean visible, boolean enabled, String text, String value) {
+            this.element = element;
+            this.visible = visible;
+            this.enabled = enabled;
+            this.text = text;
+            this.value = value;
+        }
+
+        private static ElementState from(Object result) {
+            if (!(result instanceof List)) {
+                return ABSENT;
+            }
+            List<?> fields = (List<?>) result;
+            return new ElementState((WebElement) fields.get(0), Boolean.TRUE.equals(fields.get(1)),
+                    Boolean.TRUE.equals(fields.get(2)), String.valueOf(fields.get(3)), (String) fields.get(4));
+        }
+
+        private static ElementState read(WebElement element) {
+            try {
+                boolean shown = element.isDisplayed();
+                return new ElementState(element, shown, element.isEnabled(), shown ? element.getText() : "",
+                        element.getDomProperty("value"));
+            } catch (StaleElementReferenceException e) {
+                return ABSENT;
+            }
+        }
+
+        public boolean isPresent() {
+            return element != null;
+        }
+
+        public boolean isVisible() {
+            return visible;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * @return True if the element is visible and enabled.
+         */
+        public boolean isInteractable() {
+            return visible && enabled;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * @return The element's value property, or null for elements without one.
+         */
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * @return The element found at capture time, or null if it was not present.
+         */
+        public WebElement getElement() {
+            return element;
+        }
+
+        @Override
+        public String toString() {
+            return isPresent()
+                    ? String.format("{visible=%s, enabled=%s, text='%s', value=%s}", visible, enabled, text, value)
+                    : "{absent}";
+        }
+    }
+}
@@ -2,13 +2,16 @@
  * Class Name: ElementTextWait
  *
  * Description:
- * Utility class for waiting until specific text appears in a web element using Selenium's FluentWait.
+ * Utility class for waiting until specific text appears in a web element.
  * Provides configurable timeouts and polling intervals to handle dynamic content loading scenarios.
  *
  * Key Features:
  * - Waits for text to appear in a visible web element.
- * - Customizable timeout and polling interval.
- * - Uses Selenium's FluentWait for robust waiting logic.
+ * - Customizable timeout and polling, either a fixed interval or any {@link PollingStrategy}.
+ * - Evaluates visibility and text inside the page with {@link BrowserSideWait} when wait.backend=browser.
+ * - Records actual wait time against the timeout in {@link WaitMetrics}.
+ * - Waits run immutable {@link WaitSpec}s, safe to share across threads; visibility specs come from the shared WaitSpec cache.
+ * - The timeout is capped per locator by {@link LearnedTimeouts}, looked up on every wait, once enough appearance history exists.
  *
  * Dependencies:
  * - Selenium WebDriver for browser automation.
@@ -17,29 +20,40 @@
 package com.orangehrm.testng.utils;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.FluentWait;
 
 import java.time.Duration;
 
 public class ElementTextWait {
 
-    private final FluentWait<WebDriver> wait;
+    private final WebDriver driver;
+    private final PollingStrategy strategy;
+    private final int timeout;
 
     /**
-     * Constructor to initialize FluentWait with a specified timeout and polling interval.
+     * Constructor to initialize the wait with a specified timeout and polling interval.
      *
      * @param driver        WebDriver instance.
      * @param timeout       Timeout in seconds.
      * @param pollingMillis Polling interval in milliseconds.
      */
     public ElementTextWait(WebDriver driver, int timeout, long pollingMillis) {
-        this.wait = new FluentWait<>(driver)
-                .withTimeout(Duration.ofSeconds(timeout))
-                .pollingEvery(Duration.ofMillis(pollingMillis))
-                .ignoring(Exception.class);
+        this(driver, timeout, PollingStrategy.fixed(Duration.ofMillis(pollingMillis)));
+    }
+
+    /**
+     * Constructor to initialize the wait with a specified timeout and polling strategy.
+     *
+     * @param driver   WebDriver instance.
+     * @param timeout  Timeout in seconds.
+     * @param strategy Polling strategy, e.g. {@link PollingStrategy#fromConfig()}.
+     */
+    public ElementTextWait(WebDriver driver, int timeout, PollingStrategy strategy) {
+        this.driver = driver;
+        this.timeout = timeout;
+        this.strategy = strategy;
     }
 
     /**
@@ -49,7 +63,8 @@ public class ElementTextWait {
      * @return The visible WebElement.
      */
     public WebElement waitForElementVisibility(By locator) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return WaitSpec.visibility(locator, LearnedTimeouts.timeoutFor(locator, timeout)).withKind("text").withPolling(strategy)
+                .await(driver);
     }
 
     /**
@@ -61,11 +76,11 @@ public class ElementTextWait {
      * @throws WaitTimeoutException If the text is not found within the timeout period.
      */
     public WebElement waitForTextInElement(By locator, String text) throws WaitTimeoutException {
-        WebElement element = waitForElementVisibility(locator);
-        if (element.getText().contains(text)) {
-            return element;
-        } else {
-            throw new WaitTimeoutException("Text not found in element: " + text);
+        WaitSpec<WebElement> spec = WaitSpec.text(locator, text, LearnedTimeouts.timeoutFor(locator, timeout)).withPolling(strategy);
+        try {
+            return spec.await(driver);
+        } catch (TimeoutException e) {
+            throw new WaitTimeoutException("Text not found in element: " + text, e);
         }
     }
 }
@@ -77,4 +92,8 @@ class WaitTimeoutException extends RuntimeException {
     public WaitTimeoutException(String message) {
         super(message);
     }
+
+    public WaitTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
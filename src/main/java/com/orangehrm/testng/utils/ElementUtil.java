@@ -4,12 +4,12 @@
  * Description:
  * Utility class for interacting with web elements in a Selenium WebDriver context.
  * Provides methods for locating elements, validating their visibility, and performing actions such as clicks and sending keys.
- * Includes retry logic with exponential backoff for robust interaction.
+ * Actions are retried on transient failures through {@link RetryPolicy}.
  *
  * Key Features:
  * - Element location with detailed logging.
- * - Visibility validation before interaction.
- * - Retry mechanism with exponential backoff for resilient operations.
+ * - Actions wait up to wait.time seconds for the element to become visible, then validate it is interactable.
+ * - Retries with exception classification, jittered exponential backoff and a time budget (RetryPolicy).
  *
  * Dependencies:
  * - Selenium WebDriver for browser automation.
@@ -28,6 +28,7 @@ import org.openqa.selenium.*;
 public class ElementUtil {
 
     private static final Logger logger = LogManager.getLogger(ElementUtil.class);
+    private static final int WAIT_SECONDS = Integer.parseInt(ConfigManager.getProperty("wait.time", "10"));
 
     /**
      * Finds an element using the specified locator.
@@ -38,7 +39,7 @@ public class ElementUtil {
      */
     public static WebElement findElement(WebDriver driver, By locator) {
         try {
-            WebElement element = driver.findElement(locator);
+            WebElement element = LocatorProfiler.measure(driver, locator, () -> driver.findElement(locator));
             logger.info("Element found: {}", locator);
             return element;
         } catch (NoSuchElementException e) {
@@ -48,81 +49,111 @@ public class ElementUtil {
     }
 
     /**
-     * Validates that an element is visible and interactable.
+     * Waits for an element to be visible, so actions on a not yet rendered element do not fail at once.
      *
+     * @param driver  WebDriver instance.
+     * @param locator Locator for the web element.
+     * @return The visible WebElement.
+     */
+    private static WebElement waitForElement(WebDriver driver, By locator) {
+        WebElement element = new ElementVisibilityWait(driver).waitForElementToBeVisible(locator, WAIT_SECONDS);
+        logger.info("Element found: {}", locator);
+        return element;
+    }
+
+    /**
+     * Validates that an element is visible and interactable, reading both states in one round trip.
+     *
+     * @param driver  WebDriver instance.
      * @param element WebElement to validate.
      * @param locator Locator for logging purposes.
      */
-    private static void validateElementVisibility(WebElement element, By locator) {
-        if (element == null || !element.isDisplayed() || !element.isEnabled()) {
+    private static void validateElementVisibility(WebDriver driver, WebElement element, By locator) {
+        ElementStateSnapshot.ElementState state = ElementStateSnapshot.stateOf(driver, element);
+        if (!state.isInteractable()) {
             logger.error("Element is not interactable: {} (Visible: {}, Enabled: {})", locator,
-                    element != null && element.isDisplayed(), element != null && element.isEnabled());
-            throw new IllegalArgumentException("Element is not interactable: " + locator);
+                    state.isVisible(), state.isEnabled());
+            throw new ElementNotInteractableException("Element is not interactable: " + locator);
         }
     }
 
+    /**
+     * Clicks on an element, retrying transient failures with the configured {@link RetryPolicy}.
+     *
+     * @param driver  WebDriver instance.
+     * @param locator Locator for the web element.
+     */
+    public static void clickElement(WebDriver driver, By locator) {
+        clickElement(driver, locator, RetryPolicy.defaults());
+    }
+
     /**
      * Clicks on an element with retry and exponential backoff.
      *
      * @param driver       WebDriver instance.
      * @param locator      Locator for the web element.
-     * @param retries      Number of retry attempts.
+     * @param retries      Maximum number of attempts.
      * @param backoffDelay Initial delay for exponential backoff in milliseconds.
      */
     public static void clickElement(WebDriver driver, By locator, int retries, long backoffDelay) {
-        retryWithBackoff(retries, backoffDelay, () -> {
-            WebElement element = findElement(driver, locator);
-            validateElementVisibility(element, locator);
+        clickElement(driver, locator, RetryPolicy.defaults().withMaxAttempts(retries).withBackoffBase(backoffDelay));
+    }
+
+    /**
+     * Clicks on an element, retrying transient failures (stale, intercepted, not yet interactable).
+     *
+     * @param driver  WebDriver instance.
+     * @param locator Locator for the web element.
+     * @param policy  Retry policy.
+     */
+    public static void clickElement(WebDriver driver, By locator, RetryPolicy policy) {
+        policy.run("click", () -> {
+            WebElement element = waitForElement(driver, locator);
+            validateElementVisibility(driver, element, locator);
             element.click();
             logger.info("Clicked on element: {}", locator);
         });
     }
 
+    /**
+     * Sends keys to an element, retrying transient failures with the configured {@link RetryPolicy}.
+     *
+     * @param driver  WebDriver instance.
+     * @param locator Locator for the web element.
+     * @param text    Text to send to the element.
+     */
+    public static void sendKeysToElement(WebDriver driver, By locator, String text) {
+        sendKeysToElement(driver, locator, text, RetryPolicy.defaults());
+    }
+
     /**
      * Sends keys to an element with retry and exponential backoff.
      *
      * @param driver       WebDriver instance.
      * @param locator      Locator for the web element.
      * @param text         Text to send to the element.
-     * @param retries      Number of retry attempts.
+     * @param retries      Maximum number of attempts.
      * @param backoffDelay Initial delay for exponential backoff in milliseconds.
      */
     public static void sendKeysToElement(WebDriver driver, By locator, String text, int retries, long backoffDelay) {
-        retryWithBackoff(retries, backoffDelay, () -> {
-            WebElement element = findElement(driver, locator);
-            validateElementVisibility(element, locator);
-            element.clear();
-            element.sendKeys(text);
-            logger.info("Sent keys to element: {}", locator);
-        });
+        sendKeysToElement(driver, locator, text, RetryPolicy.defaults().withMaxAttempts(retries).withBackoffBase(backoffDelay));
     }
 
     /**
-     * Retry logic with exponential backoff.
+     * Sends keys to an element, retrying transient failures. The field is cleared on every attempt.
      *
-     * @param retries      Number of retry attempts.
-     * @param backoffDelay Initial delay for exponential backoff in milliseconds.
-     * @param action       Action to perform.
+     * @param driver  WebDriver instance.
+     * @param locator Locator for the web element.
+     * @param text    Text to send to the element.
+     * @param policy  Retry policy.
      */
-    private static void retryWithBackoff(int retries, long backoffDelay, Runnable action) {
-        int attempts = 0;
-        while (attempts < retries) {
-            try {
-                action.run();
-                return;
-            } catch (Exception e) {
-                attempts++;
-                if (attempts >= retries) {
-                    logger.error("Failed to perform action after {} attempts", retries, e);
-                    throw new RuntimeException("Action failed after retries", e);
-                }
-                logger.warn("Retrying action (Attempt {}/{})", attempts, retries);
-                try {
-                    Thread.sleep(backoffDelay * attempts); // Exponential backoff
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                }
-            }
-        }
+    public static void sendKeysToElement(WebDriver driver, By locator, String text, RetryPolicy policy) {
+        policy.run("sendKeys", () -> {
+            WebElement element = waitForElement(driver, locator);
+            validateElementVisibility(driver, element, locator);
+            element.clear();
+            element.sendKeys(text);
+            logger.info("Sent keys to element: {}", locator);
+        });
     }
 }
@@ -2,84 +2,117 @@
  * Class Name: ElementVisibilityWait
  *
  * Description:
- * Provides utility methods for handling visibility-related waits for web elements using FluentWait.
+ * Provides utility methods for handling visibility-related waits for web elements.
  *
  * Key Features:
  * - Wait for an element to be visible.
  * - Wait for an element to be clickable.
  * - Check if an element is displayed within a timeout.
- * - Flexible timeout and polling interval configuration.
+ * - Race mutually exclusive outcomes and report which one appeared first.
+ * - Each wait runs an immutable, shared {@link WaitSpec}, so one instance can be used from several threads.
+ * - Conditions are evaluated inside the page with {@link BrowserSideWait} when wait.backend=browser,
+ *   falling back to adaptive polling when scripts cannot run.
+ * - Records actual wait time against the timeout in {@link WaitMetrics}.
+ * - Element waits use the shorter per-locator timeout from {@link LearnedTimeouts} once it has enough history.
  *
  * Dependencies:
  * - Selenium WebDriver for browser automation.
- * - FluentWait for implementing dynamic waits.
  */
 
 package com.orangehrm.testng.utils;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public class ElementVisibilityWait {
 
-    private final FluentWait<WebDriver> wait;
+    private final WebDriver driver;
 
     /**
      * Constructor for ElementVisibilityWait.
-     * Accepts a pre-configured FluentWait instance for flexibility.
      *
-     * @param wait Pre-configured FluentWait instance.
+     * @param driver The WebDriver instance.
      */
-    public ElementVisibilityWait(FluentWait<WebDriver> wait) {
-        this.wait = wait;
+    public ElementVisibilityWait(WebDriver driver) {
+        this.driver = driver;
     }
 
     /**
      * Waits for an element to be visible.
      *
      * @param locator The locator for the element.
-     * @param timeout Timeout in seconds.
+     * @param timeout Timeout in seconds; an upper bound once a learned timeout exists.
      * @return The visible WebElement.
      */
     public WebElement waitForElementToBeVisible(By locator, int timeout) {
-        return wait.withTimeout(Duration.ofSeconds(timeout))
-                   .until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return WaitSpec.visibility(locator, LearnedTimeouts.timeoutFor(locator, timeout)).await(driver);
     }
 
     /**
      * Waits for an element to be clickable.
      *
      * @param locator The locator for the element.
-     * @param timeout Timeout in seconds.
+     * @param timeout Timeout in seconds; an upper bound once a learned timeout exists.
      * @return The clickable WebElement.
      */
     public WebElement waitForElementToBeClickable(By locator, int timeout) {
-        return wait.withTimeout(Duration.ofSeconds(timeout))
-                   .until(ExpectedConditions.elementToBeClickable(locator));
+        return WaitSpec.clickable(locator, LearnedTimeouts.timeoutFor(locator, timeout)).await(driver);
     }
 
     /**
      * Checks if an element is displayed within the timeout period.
      *
      * @param locator The locator for the element.
-     * @param timeout Timeout in seconds.
+     * @param timeout Timeout in seconds; an upper bound once a learned timeout exists.
      * @return True if the element is displayed; otherwise, false.
      */
     public boolean isElementDisplayed(By locator, int timeout) {
         try {
-            return wait.withTimeout(Duration.ofSeconds(timeout))
-                       .until(ExpectedConditions.visibilityOfElementLocated(locator))
-                       .isDisplayed();
+            return WaitSpec.visibility(locator, LearnedTimeouts.timeoutFor(locator, timeout)).withKind("displayed").await(driver).isDisplayed();
         } catch (Exception e) {
             return false;
         }
     }
 
+    /**
+     * Waits until any of several mutually exclusive outcomes is visible, e.g. dashboard vs. login error,
+     * so a negative result is known as soon as the page settles instead of after a full timeout.
+     * Outcomes are checked in iteration order on every poll; an earlier one wins a tie.
+     *
+     * @param outcomes The outcomes and the locator showing each, in priority order.
+     * @param timeout  Timeout in seconds.
+     * @param <K>      The outcome type.
+     * @return The outcome that appeared first, or empty if none appeared within the timeout.
+     */
+    public <K> Optional<K> waitForAny(Map<K, By> outcomes, int timeout) {
+        List<K> keys = new ArrayList<>(outcomes.keySet());
+        List<By> locators = new ArrayList<>(outcomes.values());
+        WaitSpec<K> spec = WaitSpec.<K>of("any", "any of " + locators, input -> {
+            for (int i = 0; i < locators.size(); i++) {
+                if (input.findElements(locators.get(i)).stream().anyMatch(WebElement::isDisplayed)) {
+                    return keys.get(i);
+                }
+            }
+            return null;
+        }, timeout).withFastPath(input -> BrowserSideWait.isEnabled()
+                ? new BrowserSideWait(input).firstVisible(locators, Duration.ofSeconds(timeout)).map(keys::get)
+                : Optional.empty());
+        try {
+            return Optional.of(spec.await(driver));
+        } catch (TimeoutException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Factory method for creating a FluentWait instance.
      *
@@ -0,0 +1,179 @@
+package com.orangehrm.testng.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class Name: FormFiller
+ *
+ * Description:
+ * Fills several form inputs either keystroke by keystroke through WebDriver (the default) or, in script
+ * mode, all at once in a single executeScript call. Script mode sets each value through the native value
+ * setter and dispatches input and change events, so Vue/React bindings and validation see the new values
+ * just as they would after typing.
+ *
+ * Key Features:
+ * - Mode from form.fill.mode (keystrokes or script); page objects can override it per instance.
+ * - Script mode only writes when every field is present, visible, enabled and editable, and reads the
+ *   values back; otherwise the fields keep their previous values and the keystroke path runs instead.
+ * - Fill time is recorded per action and mode, so both paths can be compared in the suite summary.
+ *
+ * Script mode skips key events, focus order and input masks. Keep keystrokes for tests about those.
+ *
+ * Dependencies:
+ * - Selenium WebDriver (JavascriptExecutor).
+ * - SLF4J (Log4j) for logging.
+ */
+public final class FormFiller {
+
+    private static final Logger logger = LoggerFactory.getLogger(FormFiller.class);
+
+    private static final Mode DEFAULT_MODE = Mode.valueOf(
+            ConfigManager.getProperty("form.fill.mode", "keystrokes").trim().toUpperCase(Locale.ROOT));
+
+    // arguments: [[kind, selector], ...], [value, ...]; returns null when filled, else the index of the first unusable field
+    private static final String FILL_SCRIPT = BrowserSideWait.DOM_FUNCTIONS + "\n" + String.join("\n",
+            "var targets = arguments[0], values = arguments[1], fields = [], original = [];",
+            "for (var i = 0; i < targets.length; i++) {",
+            "  var el = find(targets[i]);",
+            "  if (!visible(el) || el.disabled || el.readOnly || typeof el.value !== 'string') { return i; }",
+            "  fields.push(el);",
+            "  original.push(el.value);",
+            "}",
+            "function set(field, value) {",
+            "  Object.getOwnPropertyDescriptor(Object.getPrototypeOf(field), 'value').set.call(field, value);",
+            "  field.dispatchEvent(new Event('input', { bubbles: true }));",
+            "  field.dispatchEvent(new Event('change', { bubbles: true }));",
+            "}",
+            "for (var j = 0; j < fields.length; j++) {",
+            "  fields[j].focus();",
+            "  set(fields[j], values[j]);",
+            "  fields[j].blur();",
+            "}",
+            "for (var k = 0; k < fields.length; k++) {",
+            "  if (fields[k].value !== values[k]) {",
+            "    // e.g. a maxlength or input mask rewrote the value: restore everything so typing starts clean",
+            "    for (var r = 0; r < fields.length; r++) { set(fields[r], original[r]); }",
+            "    return k;",
+            "  }",
+            "}",
+            "return null;");
+
+    private static final Map<String, ActionStats> actionStats = new ConcurrentHashMap<>();
+
+    private final WebDriver driver;
+    private volatile Mode mode = DEFAULT_MODE;
+
+    /**
+     * How field values are entered.
+     */
+    public enum Mode {
+        /** WebDriver sendKeys, one key event per character. */
+        KEYSTROKES,
+        /** One script setting every value and dispatching input/change events. */
+        SCRIPT
+    }
+
+    public FormFiller(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Fills the given fields.
+     *
+     * @param action     Name of the action, used for metrics (e.g. "loginForm").
+     * @param fields     Field locators and their values, in filling order.
+     * @param keystrokes Enters the same values by typing; used in keystroke mode and as the script fallback.
+     */
+    public void fill(String action, Map<By, String> fields, Runnable keystrokes) {
+        ActionStats stats = actionStats.computeIfAbsent(action, a -> new ActionStats());
+        long start = System.nanoTime();
+        if (mode == Mode.SCRIPT) {
+            if (fillInOneScript(action, fields)) {
+                stats.script.recordSince(start);
+                return;
+            }
+            stats.fallbacks.increment();
+            start = System.nanoTime();
+        }
+        keystrokes.run();
+        stats.keystrokes.recordSince(start);
+    }
+
+    /**
+     * @return Fill time per action and mode, with the number of script fills that fell back to keystrokes.
+     */
+    public static String describeMetrics() {
+        StringBuilder summary = new StringBuilder("Form fills -");
+        new TreeMap<>(actionStats).forEach((action, stats) -> summary.append(' ').append(action).append(": ").append(stats).append(';'));
+        return summary.toString();
+    }
+
+    /**
+     * Clears the per-action fill statistics.
+     */
+    public static void resetMetrics() {
+        actionStats.clear();
+    }
+
+    private boolean fillInOneScript(String action, Map<By, String> fields) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return false;
+        }
+        List<List<String>> targets = new ArrayList<>();
+        for (By locator : fields.keySet()) {
+            String[] selector = BrowserSideWait.toSelector(locator);
+            if (selector == null) {
+                logger.debug("{}: no script selector for {}, typing instead", action, locator);
+                return false;
+            }
+            targets.add(Arrays.asList(selector));
+        }
+        try {
+            Object failed = ((JavascriptExecutor) driver).executeScript(FILL_SCRIPT, targets, new ArrayList<>(fields.values()));
+            if (failed == null) {
+                return true;
+            }
+            logger.debug("{}: field {} not ready for a scripted fill, typing instead",
+                    action, new ArrayList<>(fields.keySet()).get(((Number) failed).intValue()));
+        } catch (WebDriverException | ClassCastException e) {
+            logger.debug("{}: scripted fill failed, typing instead: {}", action, e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Fill times for one action name.
+     */
+    private static final class ActionStats {
+        private final TimingStats script = new TimingStats();
+        private final TimingStats keystrokes = new TimingStats();
+        private final LongAdder fallbacks = new LongAdder();
+
+        @Override
+        public String toString() {
+            return String.format("script [%s], keystrokes [%s], script fallbacks=%d", script, keystrokes, fallbacks.sum());
+        }
+    }
+}
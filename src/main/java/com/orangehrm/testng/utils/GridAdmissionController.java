@@ -0,0 +1,343 @@
+package com.orangehrm.testng.utils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class Name: GridAdmissionController
+ *
+ * Description:
+ * Gates new RemoteWebDriver sessions on the number of free Selenium Grid slots, so parallel test
+ * threads queue locally instead of piling requests into the hub's new-session queue. The hub's
+ * /status endpoint is polled in the background and each browser gets a fair (FIFO) admission queue
+ * whose capacity is the number of free slots reported for that browser.
+ *
+ * Free slots are counted per node as min(idle slots for the browser, node max-sessions - busy slots),
+ * minus sessions this JVM admitted that the hub has not reported yet. Slots are never "released"
+ * explicitly: a quit session shows up as a free slot on the next poll.
+ *
+ * Key Features:
+ * - Fair per-browser queue with a timeout (grid.admission.timeout.seconds).
+ * - Queue depth and wait-time metrics per browser.
+ * - Fails open (no gating) while the status endpoint cannot be read.
+ * - The status URI is injectable, so it can be exercised against a local stub server.
+ *
+ * Dependencies:
+ * - java.net.http for polling, Selenium's JSON support for parsing the status payload.
+ * - SLF4J (Log4j) for logging.
+ */
+public class GridAdmissionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(GridAdmissionController.class);
+
+    private final URI statusUri;
+    private final long pollIntervalMillis;
+    private final long admissionTimeoutMillis;
+    private final HttpClient httpClient;
+    private final Map<String, BrowserQueue> queues = new ConcurrentHashMap<>();
+    private final Object pollerLock = new Object();
+    private ScheduledExecutorService poller;
+
+    /**
+     * @param statusUri               The hub status endpoint, e.g. http://localhost:4444/status.
+     * @param pollIntervalMillis      How often the status endpoint is polled.
+     * @param admissionTimeoutSeconds How long a session request may wait for a free slot.
+     */
+    public GridAdmissionController(URI statusUri, long pollIntervalMillis, long admissionTimeoutSeconds) {
+        this.statusUri = statusUri;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.admissionTimeoutMillis = TimeUnit.SECONDS.toMillis(admissionTimeoutSeconds);
+        this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    }
+
+    /**
+     * Builds a controller from configuration: grid.status.url (derived from webdriver.hub.url when absent),
+     * grid.admission.poll.millis and grid.admission.timeout.seconds.
+     */
+    public static GridAdmissionController fromConfig() {
+        String statusUrl = ConfigManager.getProperty("grid.status.url");
+        if (statusUrl == null) {
+            String hubUrl = ConfigManager.getWebDriverHubUrl().replaceAll("/+$", "");
+            statusUrl = hubUrl.replaceAll("/wd/hub$", "") + "/status";
+        }
+        return new GridAdmissionController(URI.create(statusUrl),
+                Long.parseLong(ConfigManager.getProperty("grid.admission.poll.millis", "1000")),
+                Long.parseLong(ConfigManager.getProperty("grid.admission.timeout.seconds", "300")));
+    }
+
+    /**
+     * Waits for a free grid slot for the browser, then creates the session.
+     *
+     * @param browser The browser name ("chrome", "firefox" or "edge").
+     * @param creator Creates the session once a slot is available.
+     * @return The created session.
+     * @throws SessionNotCreatedException if no slot frees up within the admission timeout.
+     */
+    public <T> T admit(String browser, Supplier<T> creator) {
+        BrowserQueue queue = queueFor(browser);
+        ensurePolling();
+        queue.acquire();
+        try {
+            return creator.get();
+        } finally {
+            queue.creationFinished();
+        }
+    }
+
+    /**
+     * @param browser The browser name.
+     * @return The number of threads currently waiting for a slot for the browser.
+     */
+    public int getQueueDepth(String browser) {
+        return queueFor(browser).depth();
+    }
+
+    /**
+     * @param browser The browser name.
+     * @return The largest queue depth observed for the browser.
+     */
+    public int getMaxQueueDepth(String browser) {
+        return queueFor(browser).maxQueueDepth.get();
+    }
+
+    /**
+     * @param browser The browser name.
+     * @return Time spent waiting for admission for the browser.
+     */
+    public TimingStats getWaitStats(String browser) {
+        return queueFor(browser).waitStats;
+    }
+
+    /**
+     * @return A one-line summary of queue depth and admission wait per browser.
+     */
+    public String describeMetrics() {
+        StringBuilder summary = new StringBuilder("Grid admission -");
+        queues.forEach((browser, queue) -> summary.append(' ').append(browser)
+                .append(": queued ").append(queue.depth())
+                .append(" (max ").append(queue.maxQueueDepth.get()).append("), wait [")
+                .append(queue.waitStats).append("];"));
+        return summary.toString();
+    }
+
+    /**
+     * Clears admission wait times and maximum queue depths; requests still queued are kept.
+     */
+    public void resetMetrics() {
+        queues.values().forEach(queue -> {
+            queue.waitStats.reset();
+            queue.maxQueueDepth.set(queue.depth());
+        });
+    }
+
+    /**
+     * Stops the background status poller.
+     */
+    public void shutdown() {
+        synchronized (pollerLock) {
+            if (poller != null) {
+                poller.shutdownNow();
+                poller = null;
+            }
+        }
+    }
+
+    /**
+     * Polls the status endpoint once and updates the free-slot counts of every browser queue.
+     */
+    void refresh() {
+        long pollStart = System.nanoTime();
+        Map<String, Integer> freeSlots;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(statusUri).timeout(Duration.ofSeconds(5)).GET().build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IOException("HTTP " + response.statusCode());
+            }
+            freeSlots = parseFreeSlots(response.body());
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not read grid status from {}, admitting sessions ungated: {}", statusUri, e.getMessage());
+            freeSlots = null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        for (Map.Entry<String, BrowserQueue> entry : queues.entrySet()) {
+            Integer free = freeSlots == null ? null : freeSlots.getOrDefault(entry.getKey(), 0);
+            entry.getValue().update(free, pollStart);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Integer> parseFreeSlots(String statusJson) {
+        Map<String, Object> status = new Json().toType(statusJson, Map.class);
+        Map<String, Object> value = (Map<String, Object>) status.get("value");
+        Map<String, Integer> free = new HashMap<>();
+        if (value == null || value.get("nodes") == null) {
+            return free;
+        }
+        for (Map<String, Object> node : (Collection<Map<String, Object>>) value.get("nodes")) {
+            if (!"UP".equals(node.get("availability"))) {
+                continue;
+            }
+            List<Map<String, Object>> slots = node.get("slots") == null
+                    ? new ArrayList<>() : new ArrayList<>((Collection<Map<String, Object>>) node.get("slots"));
+            int busy = 0;
+            Map<String, Integer> idleByBrowser = new HashMap<>();
+            for (Map<String, Object> slot : slots) {
+                if (slot.get("session") != null) {
+                    busy++;
+                    continue;
+                }
+                Map<String, Object> stereotype = (Map<String, Object>) slot.get("stereotype");
+                if (stereotype != null && stereotype.get("browserName") != null) {
+                    idleByBrowser.merge(normalize(String.valueOf(stereotype.get("browserName"))), 1, Integer::sum);
+                }
+            }
+            int maxSessions = node.get("maxSessions") instanceof Number
+                    ? ((Number) node.get("maxSessions")).intValue() : slots.size();
+            int nodeCapacity = Math.max(0, maxSessions - busy);
+            idleByBrowser.forEach((browser, idle) -> free.merge(browser, Math.min(idle, nodeCapacity), Integer::sum));
+        }
+        return free;
+    }
+
+    private static String normalize(String browserName) {
+        String name = browserName.toLowerCase();
+        return name.contains("edge") ? "edge" : name;
+    }
+
+    private BrowserQueue queueFor(String browser) {
+        return queues.computeIfAbsent(normalize(browser), b -> new BrowserQueue());
+    }
+
+    private void ensurePolling() {
+        synchronized (pollerLock) {
+            if (poller == null) {
+                poller = Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread thread = new Thread(r, "grid-status-poller");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                poller.scheduleWithFixedDelay(this::refresh, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * FIFO admission queue for one browser. Only the thread at the head of the queue may take a slot,
+     * so requests are admitted in arrival order.
+     */
+    private final class BrowserQueue {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private final Condition changed = lock.newCondition();
+        private final Deque<Thread> waiters = new ArrayDeque<>();
+        private final AtomicInteger maxQueueDepth = new AtomicInteger();
+        private final TimingStats waitStats = new TimingStats();
+        // sessions admitted but not yet visible in a status poll, as completion timestamps (or -1 while creating)
+        private final List<Long> unreported = new ArrayList<>();
+        private Integer freeSlots;
+        private boolean statusKnown;
+
+        private void acquire() {
+            long start = System.nanoTime();
+            long deadline = start + TimeUnit.MILLISECONDS.toNanos(admissionTimeoutMillis);
+            lock.lock();
+            try {
+                waiters.addLast(Thread.currentThread());
+                maxQueueDepth.accumulateAndGet(waiters.size(), Math::max);
+                while (!(waiters.peekFirst() == Thread.currentThread() && hasCapacity())) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        waiters.remove(Thread.currentThread());
+                        changed.signalAll();
+                        throw new SessionNotCreatedException(String.format(
+                                "Timed out after %d ms waiting for a free grid slot (%d request(s) still queued)",
+                                admissionTimeoutMillis, waiters.size()));
+                    }
+                    try {
+                        changed.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        waiters.remove(Thread.currentThread());
+                        changed.signalAll();
+                        Thread.currentThread().interrupt();
+                        throw new SessionNotCreatedException("Interrupted while waiting for a free grid slot");
+                    }
+                }
+                waiters.pollFirst();
+                unreported.add(-1L);
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            long waited = waitStats.recordSince(start);
+            if (waited > pollIntervalMillis) {
+                logger.info("Admitted grid session after waiting {} ms", waited);
+            }
+        }
+
+        private void creationFinished() {
+            lock.lock();
+            try {
+                unreported.remove(Long.valueOf(-1L));
+                unreported.add(System.nanoTime());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * @param free      Free slots from the latest poll, or null when the status could not be read.
+         * @param pollStart When the poll was started; sessions completed before it are now included in the status.
+         */
+        private void update(Integer free, long pollStart) {
+            lock.lock();
+            try {
+                freeSlots = free;
+                statusKnown = true;
+                unreported.removeIf(completedAt -> completedAt >= 0 && completedAt < pollStart);
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int depth() {
+            lock.lock();
+            try {
+                return waiters.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean hasCapacity() {
+            // wait for the first poll, then fail open if the hub did not answer
+            return statusKnown && (freeSlots == null || freeSlots - unreported.size() > 0);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.orangehrm.testng.utils;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.bidi.BiDi;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.browsingcontext.BrowsingContext;
+import org.openqa.selenium.bidi.browsingcontext.CreateContextParameters;
+import org.openqa.selenium.bidi.module.Browser;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class Name: IsolatedBrowserContext
+ *
+ * Description:
+ * A fresh top-level window opened inside a long-lived worker browser, used instead of a whole browser
+ * per test class. When the session was started with WebDriver BiDi enabled, the window lives in its own
+ * BiDi user context, which gives it a separate cookie jar and storage. Otherwise a plain Selenium 4
+ * new window is opened and the application's cookies/storage are cleared when the context is opened and
+ * closed. Both are scoped to the page's origin, so the window is first navigated to the application
+ * (login.url) when it is showing another origin or about:blank.
+ *
+ * Key Features:
+ * - The worker browser keeps its original window, so closing a context never ends the session.
+ * - Falls back from BiDi user contexts to classic windows when BiDi is unavailable.
+ * - One BiDi connection per worker browser, closed by {@link #release(WebDriver)} before the browser quits.
+ *
+ * Dependencies:
+ * - Selenium WebDriver (BiDi browser and browsingContext modules).
+ * - SLF4J (Log4j) for logging.
+ */
+public class IsolatedBrowserContext {
+
+    private static final Logger logger = LoggerFactory.getLogger(IsolatedBrowserContext.class);
+    private static final String APP_URL = ConfigManager.getProperty("login.url");
+
+    // one BiDi connection per worker browser session, reused by every context opened in it
+    private static final Map<SessionId, Optional<WebDriver>> bidiViews = new ConcurrentHashMap<>();
+
+    private final WebDriver host;
+    private final String baseWindowHandle;
+    private final String windowHandle;
+    private final String userContextId;
+    private final BrowsingContext browsingContext;
+    private final WebDriver bidiDriver;
+
+    private IsolatedBrowserContext(WebDriver host, String baseWindowHandle, String windowHandle,
+                                   String userContextId, BrowsingContext browsingContext, WebDriver bidiDriver) {
+        this.host = host;
+        this.baseWindowHandle = baseWindowHandle;
+        this.windowHandle = windowHandle;
+        this.userContextId = userContextId;
+        this.browsingContext = browsingContext;
+        this.bidiDriver = bidiDriver;
+    }
+
+    /**
+     * Opens a new isolated context in the host browser and switches the driver to it.
+     *
+     * @param host The worker browser session.
+     * @return The opened context.
+     */
+    public static IsolatedBrowserContext open(WebDriver host) {
+        String baseWindowHandle = host.getWindowHandle();
+        WebDriver bidiDriver = bidiView(host);
+        if (bidiDriver != null) {
+            try {
+                Browser browser = new Browser(bidiDriver);
+                String userContextId = browser.createUserContext();
+                BrowsingContext context = new BrowsingContext(bidiDriver,
+                        new CreateContextParameters(WindowType.TAB).userContext(userContextId));
+                host.switchTo().window(context.getId());
+                logger.debug("Opened BiDi user context {} (window {})", userContextId, context.getId());
+                return new IsolatedBrowserContext(host, baseWindowHandle, context.getId(), userContextId, context, bidiDriver);
+            } catch (WebDriverException e) {
+                logger.warn("BiDi user contexts unavailable, falling back to a new window: {}", e.getMessage());
+            }
+        }
+
+        host.switchTo().newWindow(WindowType.TAB);
+        clearState(host);
+        String windowHandle = host.getWindowHandle();
+        logger.debug("Opened isolated window {}", windowHandle);
+        return new IsolatedBrowserContext(host, baseWindowHandle, windowHandle, null, null, null);
+    }
+
+    /**
+     * @return The driver, switched to this context's window.
+     */
+    public WebDriver getDriver() {
+        return host;
+    }
+
+    /**
+     * @return true if this context has its own BiDi user context (separate cookies and storage).
+     */
+    public boolean isUserContext() {
+        return userContextId != null;
+    }
+
+    /**
+     * Closes every window opened from this context and switches back to the worker's base window.
+     */
+    public void close() {
+        try {
+            if (browsingContext != null) {
+                browsingContext.close();
+                // removing the user context also closes any popups opened inside it
+                new Browser(bidiDriver).removeUserContext(userContextId);
+            } else {
+                clearState(host);
+                for (String handle : host.getWindowHandles()) {
+                    if (!handle.equals(baseWindowHandle)) {
+                        host.switchTo().window(handle).close();
+                    }
+                }
+            }
+        } finally {
+            host.switchTo().window(baseWindowHandle);
+            logger.debug("Closed isolated context {}", windowHandle);
+        }
+    }
+
+    /**
+     * Closes the BiDi connection opened for a worker browser and forgets it. Call before quitting the browser.
+     *
+     * @param host The worker browser session.
+     */
+    public static void release(WebDriver host) {
+        SessionId sessionId = sessionId(host);
+        Optional<WebDriver> view = sessionId == null ? null : bidiViews.remove(sessionId);
+        // a driver with BiDi built in closes its own connection on quit; only an augmented view has one of its own
+        if (view != null && view.isPresent() && view.get() != host) {
+            try {
+                ((HasBiDi) view.get()).maybeGetBiDi().ifPresent(BiDi::close);
+            } catch (RuntimeException e) {
+                logger.debug("Error while closing the BiDi connection: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Clears the application's cookies and web storage; only needed when contexts share a cookie jar.
+     */
+    private static void clearState(WebDriver driver) {
+        if (APP_URL == null) {
+            logger.warn("login.url is not set, clearing cookies and storage of the current page only");
+        } else if (!driver.getCurrentUrl().startsWith(origin(APP_URL))) {
+            driver.get(APP_URL);
+        }
+        driver.manage().deleteAllCookies();
+        try {
+            ((JavascriptExecutor) driver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+        } catch (WebDriverException e) {
+            logger.debug("Web storage not accessible on current page: {}", e.getMessage());
+        }
+    }
+
+    private static String origin(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getRawAuthority() + "/";
+    }
+
+    /**
+     * @return A BiDi-capable view of the driver, or null if the session was started without BiDi.
+     */
+    private static WebDriver bidiView(WebDriver driver) {
+        SessionId sessionId = sessionId(driver);
+        if (sessionId == null) {
+            return connectBiDi(driver).orElse(null);
+        }
+        return bidiViews.computeIfAbsent(sessionId, id -> connectBiDi(driver)).orElse(null);
+    }
+
+    private static Optional<WebDriver> connectBiDi(WebDriver driver) {
+        try {
+            WebDriver augmented = driver instanceof HasBiDi ? driver : new Augmenter().augment(driver);
+            if (augmented instanceof HasBiDi && ((HasBiDi) augmented).maybeGetBiDi().isPresent()) {
+                return Optional.of(augmented);
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Could not obtain a BiDi connection: {}", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private static SessionId sessionId(WebDriver driver) {
+        return driver instanceof RemoteWebDriver ? ((RemoteWebDriver) driver).getSessionId() : null;
+    }
+}
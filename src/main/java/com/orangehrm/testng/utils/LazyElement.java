@@ -0,0 +1,192 @@
+package com.orangehrm.testng.utils;
+
+import java.util.List;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+/**
+ * Class Name: LazyElement
+ *
+ * Description:
+ * A WebElement standing in for the element behind a locator, resolved on first use through the framework's
+ * waits rather than located up front. The generated page-elements classes (see
+ * com.orangehrm.testng.processor.GeneratePageElements) expose one per locator, in place of PageFactory's
+ * reflection proxies.
+ *
+ * Key Features:
+ * - Every call resolves through the page's {@link ElementCache}: a cached element is reused after one validation
+ *   call, otherwise {@link ElementVisibilityWait} waits for it (clickable for click(), visible otherwise).
+ * - Navigation or a re-rendered element is picked up on the next call; no stale proxy to re-create.
+ * - Thread-safe: the page's cache, shared by all elements of one page, synchronises its own lookups; waits
+ *   for elements not yet cached run outside its lock.
+ * - isDisplayed() returns false instead of throwing when the element cannot be resolved for any reason.
+ *
+ * Dependencies:
+ * - Selenium WebDriver for browser automation.
+ */
+public final class LazyElement implements WebElement, WrapsElement {
+
+    private final ElementCache cache;
+    private final ElementVisibilityWait wait;
+    private final By locator;
+    private final int timeoutSeconds;
+
+    /**
+     * @param cache          The page's element cache.
+     * @param wait           The page's visibility wait.
+     * @param locator        The element locator.
+     * @param timeoutSeconds Wait timeout in seconds.
+     */
+    public LazyElement(ElementCache cache, ElementVisibilityWait wait, By locator, int timeoutSeconds) {
+        this.cache = cache;
+        this.wait = wait;
+        this.locator = locator;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    public By getLocator() {
+        return locator;
+    }
+
+    /**
+     * @return The visible element, waiting for it if it is not cached.
+     */
+    @Override
+    public WebElement getWrappedElement() {
+        return cache.visible(locator, () -> wait.waitForElementToBeVisible(locator, timeoutSeconds));
+    }
+
+    /**
+     * @return The clickable element, waiting for it if it is not cached.
+     */
+    public WebElement clickable() {
+        return cache.clickable(locator, () -> wait.waitForElementToBeClickable(locator, timeoutSeconds));
+    }
+
+    @Override
+    public void click() {
+        clickable().click();
+    }
+
+    @Override
+    public void submit() {
+        getWrappedElement().submit();
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        getWrappedElement().sendKeys(keysToSend);
+    }
+
+    @Override
+    public void clear() {
+        getWrappedElement().clear();
+    }
+
+    @Override
+    public String getTagName() {
+        return getWrappedElement().getTagName();
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return getWrappedElement().getDomProperty(name);
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return getWrappedElement().getDomAttribute(name);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public String getAttribute(String name) {
+        return getWrappedElement().getAttribute(name);
+    }
+
+    @Override
+    public String getAriaRole() {
+        return getWrappedElement().getAriaRole();
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return getWrappedElement().getAccessibleName();
+    }
+
+    @Override
+    public boolean isSelected() {
+        return getWrappedElement().isSelected();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return getWrappedElement().isEnabled();
+    }
+
+    @Override
+    public String getText() {
+        return getWrappedElement().getText();
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return getWrappedElement().findElements(by);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return getWrappedElement().findElement(by);
+    }
+
+    @Override
+    public SearchContext getShadowRoot() {
+        return getWrappedElement().getShadowRoot();
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        try {
+            return getWrappedElement().isDisplayed();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Point getLocation() {
+        return getWrappedElement().getLocation();
+    }
+
+    @Override
+    public Dimension getSize() {
+        return getWrappedElement().getSize();
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return getWrappedElement().getRect();
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return getWrappedElement().getCssValue(propertyName);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return getWrappedElement().getScreenshotAs(target);
+    }
+
+    @Override
+    public String toString() {
+        return "LazyElement[" + locator + "]";
+    }
+}
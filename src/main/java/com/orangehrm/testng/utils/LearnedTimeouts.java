@@ -0,0 +1,189 @@
+package com.orangehrm.testng.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.By;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class Name: LearnedTimeouts
+ *
+ * Description:
+ * Learns how long each locator normally takes to appear and derives a per-locator wait timeout from it,
+ * so a wait for an element that usually shows up in 50 ms fails after a few seconds rather than after the
+ * global timeout. Appearance times are kept per environment in a small file that persists across runs.
+ *
+ * Behaviour:
+ * - Successful visibility/clickable waits record their duration; timed-out waits are not recorded.
+ * - The last timeouts.learned.samples durations per locator are kept in
+ *   timeouts.learned.dir/appearance-&lt;env&gt;.properties, written on JVM exit.
+ * - With at least timeouts.learned.min.samples samples, the timeout is p99 x timeouts.learned.safety.factor,
+ *   rounded up to whole seconds and clamped to [timeouts.learned.min.seconds, the caller's timeout].
+ * - Locators with too little history keep the caller's timeout.
+ *
+ * Dependencies:
+ * - SLF4J (Log4j) for logging.
+ */
+public final class LearnedTimeouts {
+
+    private static final Logger logger = LoggerFactory.getLogger(LearnedTimeouts.class);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigManager.getProperty("timeouts.learned.enabled", "false"));
+    private static final int MAX_SAMPLES = Integer.parseInt(ConfigManager.getProperty("timeouts.learned.samples", "200"));
+    private static final int MIN_SAMPLES = Integer.parseInt(ConfigManager.getProperty("timeouts.learned.min.samples", "20"));
+    private static final double SAFETY_FACTOR = Double.parseDouble(ConfigManager.getProperty("timeouts.learned.safety.factor", "3"));
+    private static final int MIN_SECONDS = Integer.parseInt(ConfigManager.getProperty("timeouts.learned.min.seconds", "3"));
+    private static final Path STORE = Paths.get(ConfigManager.getProperty("timeouts.learned.dir", "wait-history"),
+            "appearance-" + ConfigManager.getEnvironment() + ".properties");
+
+    private static final Map<String, History> histories = new ConcurrentHashMap<>();
+    private static final AtomicBoolean loaded = new AtomicBoolean(false);
+
+    private LearnedTimeouts() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * @param locator        The element locator.
+     * @param defaultSeconds The timeout the caller would otherwise use; also the upper bound.
+     * @return The learned timeout in seconds, or defaultSeconds when disabled or without enough history.
+     */
+    public static int timeoutFor(By locator, int defaultSeconds) {
+        if (!ENABLED) {
+            return defaultSeconds;
+        }
+        load();
+        History history = histories.get(locator.toString());
+        if (history == null) {
+            return defaultSeconds;
+        }
+        long p99 = history.percentile(0.99, MIN_SAMPLES);
+        if (p99 < 0) {
+            return defaultSeconds;
+        }
+        int learned = (int) Math.ceil(p99 * SAFETY_FACTOR / 1000.0);
+        return Math.min(defaultSeconds, Math.max(MIN_SECONDS, learned));
+    }
+
+    /**
+     * Records how long a locator took to appear in a successful wait.
+     *
+     * @param locator The element locator.
+     * @param millis  Time until the element appeared.
+     */
+    public static void recordAppearance(By locator, long millis) {
+        if (!ENABLED) {
+            return;
+        }
+        load();
+        histories.computeIfAbsent(locator.toString(), k -> new History()).add(millis);
+    }
+
+    /**
+     * @return Sample count and p99 appearance time per locator, for suite logs.
+     */
+    public static String describe() {
+        if (!ENABLED) {
+            return "Learned timeouts - disabled";
+        }
+        if (histories.isEmpty()) {
+            return "Learned timeouts (" + STORE + ") - no appearances recorded";
+        }
+        return "Learned timeouts (" + STORE + ") - " + histories.entrySet().stream()
+                .map(e -> {
+                    long p99 = e.getValue().percentile(0.99, MIN_SAMPLES);
+                    return e.getKey() + " [" + e.getValue().size() + " samples, "
+                            + (p99 < 0 ? "learning" : "p99 " + p99 + " ms") + "]";
+                })
+                .collect(Collectors.joining("; "));
+    }
+
+    private static void load() {
+        if (!loaded.compareAndSet(false, true)) {
+            return;
+        }
+        if (Files.isRegularFile(STORE)) {
+            Properties stored = new Properties();
+            try (InputStream in = Files.newInputStream(STORE)) {
+                stored.load(in);
+                stored.forEach((key, value) -> histories.put((String) key, History.parse((String) value)));
+                logger.info("Loaded appearance history for {} locator(s) from {}", histories.size(), STORE);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Could not read appearance history {}: {}", STORE, e.getMessage());
+            }
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(LearnedTimeouts::save, "learned-timeouts-save"));
+    }
+
+    private static void save() {
+        Properties stored = new Properties();
+        histories.forEach((key, history) -> stored.setProperty(key, history.format()));
+        try {
+            Files.createDirectories(STORE.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(STORE.toAbsolutePath().getParent(), "appearance", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                stored.store(out, "Element appearance times in ms per locator, newest last");
+            }
+            Files.move(temp, STORE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Could not write appearance history {}: {}", STORE, e.getMessage());
+        }
+    }
+
+    /**
+     * The most recent appearance times of one locator.
+     */
+    private static final class History {
+        private final Deque<Long> samples = new ArrayDeque<>();
+
+        private static History parse(String value) {
+            History history = new History();
+            Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty())
+                    .forEach(s -> history.add(Long.parseLong(s)));
+            return history;
+        }
+
+        private synchronized void add(long millis) {
+            samples.addLast(millis);
+            while (samples.size() > MAX_SAMPLES) {
+                samples.removeFirst();
+            }
+        }
+
+        private synchronized int size() {
+            return samples.size();
+        }
+
+        /**
+         * @return The percentile in ms, or -1 with fewer than minSamples samples.
+         */
+        private synchronized long percentile(double fraction, int minSamples) {
+            if (samples.isEmpty() || samples.size() < minSamples) {
+                return -1;
+            }
+            long[] sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+            return sorted[Math.max(0, (int) Math.ceil(fraction * sorted.length) - 1)];
+        }
+
+        private synchronized String format() {
+            return samples.stream().map(String::valueOf).collect(Collectors.joining(","));
+        }
+    }
+}
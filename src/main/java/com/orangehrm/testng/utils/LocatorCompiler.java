@@ -0,0 +1,245 @@
+package com.orangehrm.testng.utils;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.By;
+
+/**
+ * Class Name: LocatorCompiler
+ *
+ * Description:
+ * Translates simple attribute-based XPath locators into equivalent CSS selectors, which browsers
+ * evaluate faster and which survive small markup changes better. Only XPaths with an exact CSS
+ * equivalent are translated; anything else is left as it is.
+ *
+ * Supported XPath subset:
+ * - Steps separated by // (descendant) or / (child), starting with //, each a tag name or *.
+ * - Predicates [@attr='v'] (CSS [attr="v"]), [contains(@attr,'v')] ([attr*="v"]) and
+ *   [starts-with(@attr,'v')] ([attr^="v"]), chained or joined with "and".
+ *
+ * Class equality such as //p[@class='oxd-text oxd-text--p'] becomes p[class="oxd-text oxd-text--p"]: the
+ * same exact attribute match, not the looser p.oxd-text.oxd-text--p. Text, position and axis predicates
+ * (text(), normalize-space(), [1], ancestor::) have no CSS equivalent and are not translated.
+ *
+ * Compiled locators remember the XPath they came from ({@link #original(By)}), so {@link LocatorProfiler}
+ * can still time both forms.
+ */
+public final class LocatorCompiler {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigManager.getProperty("locator.compile.css", "false"));
+    private static final String XPATH_PREFIX = "By.xpath: ";
+
+    // compiled CSS locator -> the XPath it replaced
+    private static final Map<By, By> originals = new ConcurrentHashMap<>();
+
+    private LocatorCompiler() {}
+
+    /**
+     * Returns the CSS equivalent of an XPath locator when locator.compile.css is on and one exists,
+     * otherwise the locator itself. Intended for locator class constants.
+     *
+     * @param locator The locator.
+     * @return The fastest equivalent locator.
+     */
+    public static By optimize(By locator) {
+        if (!ENABLED) {
+            return locator;
+        }
+        Optional<By> css = toCss(locator);
+        css.ifPresent(compiled -> originals.putIfAbsent(compiled, locator));
+        return css.orElse(locator);
+    }
+
+    /**
+     * @param locator A locator, possibly returned by {@link #optimize(By)}.
+     * @return The XPath the locator was compiled from, or the locator itself if it was not compiled.
+     */
+    public static By original(By locator) {
+        return originals.getOrDefault(locator, locator);
+    }
+
+    /**
+     * @param locator The locator.
+     * @return The equivalent CSS locator, or empty if it is not an XPath or has no exact CSS equivalent.
+     */
+    public static Optional<By> toCss(By locator) {
+        String description = locator.toString();
+        if (!description.startsWith(XPATH_PREFIX)) {
+            return Optional.empty();
+        }
+        return compile(description.substring(XPATH_PREFIX.length())).map(By::cssSelector);
+    }
+
+    /**
+     * @param xpath The XPath expression.
+     * @return The equivalent CSS selector, or empty if there is none.
+     */
+    static Optional<String> compile(String xpath) {
+        Parser parser = new Parser(xpath.trim());
+        try {
+            return Optional.of(parser.path());
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Recursive-descent parser for the supported subset; throws IllegalArgumentException on anything else.
+     */
+    private static final class Parser {
+        private final String input;
+        private int pos;
+
+        private Parser(String input) {
+            this.input = input;
+        }
+
+        private String path() {
+            expect("//");
+            StringBuilder css = new StringBuilder(step());
+            while (pos < input.length()) {
+                if (consume("//")) {
+                    css.append(' ');
+                } else if (consume("/")) {
+                    css.append(" > ");
+                } else {
+                    throw unsupported();
+                }
+                css.append(step());
+            }
+            return css.toString();
+        }
+
+        private String step() {
+            StringBuilder css = new StringBuilder();
+            if (consume("*")) {
+                css.append('*');
+            } else {
+                String name = name();
+                if (name.isEmpty() || lookingAt("(") || lookingAt("::")) {
+                    throw unsupported();
+                }
+                css.append(name);
+            }
+            boolean hasPredicate = false;
+            while (consume("[")) {
+                do {
+                    css.append(condition());
+                    hasPredicate = true;
+                } while (consumeKeyword("and"));
+                skipSpaces();
+                expect("]");
+            }
+            if (!hasPredicate && css.toString().equals("*")) {
+                throw unsupported();
+            }
+            return css.toString();
+        }
+
+        private String condition() {
+            skipSpaces();
+            if (consume("@")) {
+                String attribute = name();
+                skipSpaces();
+                expect("=");
+                return attributeSelector(attribute, "=", literal());
+            }
+            String function = name();
+            String operator;
+            if (function.equals("contains")) {
+                operator = "*=";
+            } else if (function.equals("starts-with")) {
+                operator = "^=";
+            } else {
+                throw unsupported();
+            }
+            skipSpaces();
+            expect("(");
+            skipSpaces();
+            expect("@");
+            String attribute = name();
+            skipSpaces();
+            expect(",");
+            String value = literal();
+            skipSpaces();
+            expect(")");
+            if (value.isEmpty()) {
+                // contains(@a,'') is true for any element that has the attribute; CSS *="" matches nothing
+                throw unsupported();
+            }
+            return attributeSelector(attribute, operator, value);
+        }
+
+        private String literal() {
+            skipSpaces();
+            if (pos >= input.length() || (input.charAt(pos) != '\'' && input.charAt(pos) != '"')) {
+                throw unsupported();
+            }
+            char quote = input.charAt(pos++);
+            int end = input.indexOf(quote, pos);
+            if (end < 0) {
+                throw unsupported();
+            }
+            String value = input.substring(pos, end);
+            pos = end + 1;
+            return value;
+        }
+
+        private String name() {
+            int start = pos;
+            while (pos < input.length() && (Character.isLetterOrDigit(input.charAt(pos)) || input.charAt(pos) == '-' || input.charAt(pos) == '_')) {
+                pos++;
+            }
+            return input.substring(start, pos);
+        }
+
+        private static String attributeSelector(String attribute, String operator, String value) {
+            if (attribute.isEmpty()) {
+                throw unsupported();
+            }
+            return "[" + attribute + operator + "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"]";
+        }
+
+        private boolean consumeKeyword(String keyword) {
+            int saved = pos;
+            skipSpaces();
+            if (input.startsWith(keyword, pos) && pos + keyword.length() < input.length()
+                    && Character.isWhitespace(input.charAt(pos + keyword.length()))) {
+                pos += keyword.length();
+                return true;
+            }
+            pos = saved;
+            return false;
+        }
+
+        private boolean consume(String token) {
+            if (input.startsWith(token, pos)) {
+                pos += token.length();
+                return true;
+            }
+            return false;
+        }
+
+        private boolean lookingAt(String token) {
+            return input.startsWith(token, pos);
+        }
+
+        private void expect(String token) {
+            if (!consume(token)) {
+                throw unsupported();
+            }
+        }
+
+        private void skipSpaces() {
+            while (pos < input.length() && Character.isWhitespace(input.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private static IllegalArgumentException unsupported() {
+            return new IllegalArgumentException("XPath outside the CSS-compatible subset");
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.orangehrm.testng.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class Name: LocatorProfiler
+ *
+ * Description:
+ * Records how long element lookups take per locator during real runs, and measures what each locator
+ * costs the browser to evaluate. The first time a locator finds its element, the profiler times it in
+ * the page against its CSS translation from {@link LocatorCompiler}, if one exists, and checks on the
+ * live DOM that both match the same elements. A locator already compiled to CSS (locator.compile.css)
+ * is profiled against the XPath it was compiled from.
+ *
+ * Key Features:
+ * - Client-side lookup latency per locator (round trip included), from the polling wait path and ElementUtil.
+ * - In-page evaluation time per locator and for its suggested CSS equivalent.
+ * - A ranked report of the slowest locators with verified faster equivalents (locator.profile.enabled).
+ *
+ * Dependencies:
+ * - Selenium WebDriver (JavascriptExecutor).
+ * - SLF4J (Log4j) for logging.
+ */
+public final class LocatorProfiler {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocatorProfiler.class);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigManager.getProperty("locator.profile.enabled", "false"));
+    private static final int ITERATIONS = Integer.parseInt(ConfigManager.getProperty("locator.profile.iterations", "200"));
+
+    // arguments: [[kind, selector], ...], iterations; returns [micros per lookup, match count, same matches as the first target]
+    private static final String BENCHMARK_SCRIPT = BrowserSideWait.DOM_FUNCTIONS + "\n" + String.join("\n",
+            "var targets = arguments[0], iterations = arguments[1];",
+            "function findAll(target) {",
+            "  if (target[0] === 'css') { return Array.prototype.slice.call(document.querySelectorAll(target[1])); }",
+            "  var snapshot = document.evaluate(target[1], document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);",
+            "  var nodes = [];",
+            "  for (var i = 0; i < snapshot.snapshotLength; i++) { nodes.push(snapshot.snapshotItem(i)); }",
+            "  return nodes;",
+            "}",
+            "var reference = findAll(targets[0]);",
+            "return targets.map(function (target) {",
+            "  var start = performance.now();",
+            "  for (var i = 0; i < iterations; i++) { find(target); }",
+            "  var micros = (performance.now() - start) * 1000 / iterations;",
+            "  var nodes = findAll(target);",
+            "  var same = nodes.length === reference.length && nodes.every(function (n, i) { return n === reference[i]; });",
+            "  return [micros, nodes.length, same];",
+            "});");
+
+    private static final Map<By, Profile> profiles = new ConcurrentHashMap<>();
+
+    private LocatorProfiler() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Times one client-side lookup attempt. The first successful lookup of a locator also triggers its
+     * in-page analysis.
+     *
+     * @param driver  The WebDriver instance.
+     * @param locator The locator being looked up.
+     * @param lookup  The lookup; a null result counts as "not found".
+     * @param <T>     The lookup result type.
+     * @return The lookup result.
+     */
+    public static <T> T measure(WebDriver driver, By locator, Supplier<T> lookup) {
+        if (!ENABLED) {
+            return lookup.get();
+        }
+        long start = System.nanoTime();
+        T result = lookup.get();
+        Profile profile = profiles.computeIfAbsent(locator, Profile::new);
+        profile.lookups.recordSince(start);
+        if (result != null) {
+            analyzeOnce(driver, profile);
+        }
+        return result;
+    }
+
+    /**
+     * Notes that a locator matched through a path that was not timed client-side (e.g. an in-page wait),
+     * so it still gets its in-page analysis.
+     *
+     * @param driver  The WebDriver instance.
+     * @param locator The locator that matched.
+     */
+    public static void found(WebDriver driver, By locator) {
+        if (ENABLED) {
+            analyzeOnce(driver, profiles.computeIfAbsent(locator, Profile::new));
+        }
+    }
+
+    /**
+     * @param limit Maximum number of locators to list.
+     * @return Locators ranked by in-page evaluation time (then lookup latency), slowest first, with
+     *         suggested CSS equivalents verified against the page they were found on.
+     */
+    public static String describeReport(int limit) {
+        if (profiles.isEmpty()) {
+            return "Locator profile - no lookups recorded" + (ENABLED ? "" : " (locator.profile.enabled=false)");
+        }
+        List<Profile> ranked = new ArrayList<>(profiles.values());
+        ranked.sort(Comparator.comparingDouble((Profile p) -> p.originalMicros).reversed()
+                .thenComparing(Comparator.comparingDouble((Profile p) -> p.lookups.getAverageMillis()).reversed()));
+        return "Locator profile (slowest first) - " + ranked.stream().limit(limit)
+                .map(Profile::toString)
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Discards every profile, so the next suite profiles its locators afresh.
+     */
+    public static void reset() {
+        profiles.clear();
+    }
+
+    private static void analyzeOnce(WebDriver driver, Profile profile) {
+        if (!(driver instanceof JavascriptExecutor) || !profile.analyzed.compareAndSet(false, true)) {
+            return;
+        }
+        By source = LocatorCompiler.original(profile.locator);
+        String[] original = BrowserSideWait.toSelector(source);
+        if (original == null) {
+            return;
+        }
+        // the source XPath is the reference; the CSS is either the one in use or a suggestion
+        Optional<By> css = source != profile.locator ? Optional.of(profile.locator) : LocatorCompiler.toCss(source);
+        profile.source = source;
+        List<List<String>> targets = new ArrayList<>();
+        targets.add(Arrays.asList(original));
+        css.ifPresent(c -> targets.add(Arrays.asList(BrowserSideWait.toSelector(c))));
+        try {
+            List<?> results = (List<?>) ((JavascriptExecutor) driver).executeScript(BENCHMARK_SCRIPT, targets, ITERATIONS);
+            List<?> first = (List<?>) results.get(0);
+            profile.originalMicros = ((Number) first.get(0)).doubleValue();
+            profile.matches = ((Number) first.get(1)).intValue();
+            if (css.isPresent()) {
+                List<?> candidate = (List<?>) results.get(1);
+                profile.suggestion = css.get();
+                profile.suggestionMicros = ((Number) candidate.get(0)).doubleValue();
+                profile.suggestionVerified = Boolean.TRUE.equals(candidate.get(2));
+            }
+            logger.debug("Profiled {}", profile);
+        } catch (WebDriverException | ClassCastException e) {
+            logger.debug("Could not profile {} in the page: {}", profile.locator, e.getMessage());
+        }
+    }
+
+    /**
+     * Measurements for one locator.
+     */
+    private static final class Profile {
+        private final By locator;
+        private final TimingStats lookups = new TimingStats();
+        private final AtomicBoolean analyzed = new AtomicBoolean(false);
+        private volatile By source;
+        private volatile double originalMicros = -1;
+        private volatile int matches;
+        private volatile By suggestion;
+        private volatile double suggestionMicros;
+        private volatile boolean suggestionVerified;
+
+        private Profile(By locator) {
+            this.locator = locator;
+        }
+
+        @Override
+        public String toString() {
+            boolean compiled = source != null && source != locator;
+            StringBuilder line = new StringBuilder((compiled ? source : locator).toString());
+            if (originalMicros >= 0) {
+                line.append(String.format(" [in page %.1f us, %d match(es)]", originalMicros, matches));
+            }
+            if (lookups.getCount() > 0) {
+                line.append(String.format(" [lookups %d, avg %.1f ms]", lookups.getCount(), lookups.getAverageMillis()));
+            }
+            if (suggestion != null) {
+                line.append(String.format(" -> %s %s (%.1f us, %s)", compiled ? "compiled to" : "suggest", suggestion, suggestionMicros,
+                        suggestionVerified ? "same elements on live DOM" : "NOT equivalent on live DOM"));
+            }
+            return line.toString();
+        }
+    }
+}
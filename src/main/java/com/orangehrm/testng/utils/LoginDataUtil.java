@@ -2,13 +2,8 @@ package com.orangehrm.testng.utils;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.core.type.TypeReference;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.*;
@@ -27,60 +22,26 @@ public class LoginDataUtil {
 
     /**
      * Reads login credentials from an Excel file.
+     * The first sheet is streamed row by row, so large sheets do not have to fit in memory as a workbook.
      *
      * @param filePath Path to the Excel file.
      * @return List of Maps representing test data.
      * @throws IOException If the file cannot be read.
      */
     public static List<Map<String, String>> getDataFromExcel(String filePath) throws IOException {
-        List<Map<String, String>> data = new ArrayList<>();
-        try (FileInputStream file = new FileInputStream(new File(filePath));
-             Workbook workbook = new XSSFWorkbook(file)) {
-
-            Sheet sheet = workbook.getSheetAt(0);
-            Row headerRow = sheet.getRow(0);
-            int colCount = headerRow.getPhysicalNumberOfCells();
-
-            for (int i = 1; i < sheet.getPhysicalNumberOfRows(); i++) {
-                Row currentRow = sheet.getRow(i);
-                Map<String, String> rowData = new HashMap<>();
-                for (int j = 0; j < colCount; j++) {
-                    String key = headerRow.getCell(j).getStringCellValue();
-                    String value = getCellValue(currentRow.getCell(j));
-                    rowData.put(key, value);
-                }
-                data.add(rowData);
-            }
-        }
-        return data;
-    }
-
-    private static String getCellValue(Cell cell) {
-        if (cell == null) {
-            return "";
-        }
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue();
-            case NUMERIC:
-                return String.valueOf(cell.getNumericCellValue());
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            default:
-                return "";
-        }
+        return StreamingExcelReader.of(filePath).readAll();
     }
 
     /**
      * Reads login credentials from a JSON file.
+     * Records are parsed one at a time rather than binding the whole file.
      *
      * @param filePath Path to the JSON file.
      * @return List of Maps representing test data.
      * @throws IOException If the file cannot be read.
      */
     public static List<Map<String, String>> getDataFromJSON(String filePath) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.readValue(new File(filePath), new TypeReference<List<Map<String, String>>>() {});
+        return StreamingJsonReader.of(filePath).readAll();
     }
 
     /**
@@ -92,12 +53,16 @@ public class LoginDataUtil {
      * @throws IOException If the file cannot be read.
      */
     public static List<Map<String, String>> getFilteredLoginData(String filePath, String story) throws IOException {
-        List<Map<String, String>> allData = getTestData(filePath);
-        List<Map<String, String>> filteredData = new ArrayList<>();
-        for (Map<String, String> data : allData) {
-            if (story.equals(data.get(STORY_KEY))) {
-                filteredData.add(data);
-            }
+        checkFileExists(filePath);
+        // filtered while streaming: records of other stories are skipped during parsing, never collected
+        List<Map<String, String>> filteredData;
+        if (filePath.endsWith(".json")) {
+            filteredData = StreamingJsonReader.of(filePath).readWhere(STORY_KEY, story);
+        } else if (filePath.endsWith(".xlsx")) {
+            filteredData = StreamingExcelReader.of(filePath).readWhere(STORY_KEY, story);
+        } else {
+            logger.error("Unsupported file format: {}", filePath);
+            throw new IllegalArgumentException("Unsupported file format: " + filePath);
         }
         if (filteredData.isEmpty()) {
             logger.warn("No data found for story: {}", story);
@@ -113,11 +78,7 @@ public class LoginDataUtil {
      * @throws IOException If the file cannot be read.
      */
     public static List<Map<String, String>> getTestData(String filePath) throws IOException {
-        File file = new File(filePath);
-        if (!file.exists()) {
-            logger.error("File not found: {}", filePath);
-            throw new FileNotFoundException("File not found: " + filePath);
-        }
+        checkFileExists(filePath);
 
         if (filePath.endsWith(".json")) {
             logger.info("Loading test data from JSON file: {}", filePath);
@@ -130,4 +91,11 @@ public class LoginDataUtil {
             throw new IllegalArgumentException("Unsupported file format: " + filePath);
         }
     }
+
+    private static void checkFileExists(String filePath) throws FileNotFoundException {
+        if (!new File(filePath).exists()) {
+            logger.error("File not found: {}", filePath);
+            throw new FileNotFoundException("File not found: " + filePath);
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package com.orangehrm.testng.utils;
+
+import java.time.Duration;
+
+import org.openqa.selenium.support.ui.Sleeper;
+
+/**
+ * Class Name: PollingSleeper
+ *
+ * Description:
+ * Selenium {@link Sleeper} that ignores the wait's fixed polling interval and sleeps for whatever the
+ * {@link PollingStrategy} returns for the current poll. Call {@link #reset()} before each wait so the
+ * strategy starts from its first interval again.
+ *
+ * A sleeper belongs to one wait instance, which like the page objects using it is confined to one thread.
+ */
+public class PollingSleeper implements Sleeper {
+
+    private final PollingStrategy strategy;
+    private int polls;
+
+    public PollingSleeper(PollingStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    @Override
+    public void sleep(Duration ignored) throws InterruptedException {
+        Thread.sleep(strategy.nextInterval(polls++).toMillis());
+    }
+
+    /**
+     * Starts a new wait: the next sleep uses the strategy's first interval.
+     */
+    public void reset() {
+        polls = 0;
+    }
+
+    /**
+     * @return The number of sleeps since the last {@link #reset()}.
+     */
+    public int getPolls() {
+        return polls;
+    }
+}
@@ -0,0 +1,69 @@
+package com.orangehrm.testng.utils;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Interface Name: PollingStrategy
+ *
+ * Description:
+ * Decides how long a wait sleeps between two evaluations of its condition. Used through
+ * {@link PollingSleeper}, which plugs a strategy into Selenium's FluentWait/WebDriverWait.
+ *
+ * Implementations:
+ * - {@link #fixed(Duration)}: the same interval for every poll (Selenium's default behaviour).
+ * - {@link #geometric(Duration, double, Duration, double)}: short first polls that grow by a factor
+ *   up to a cap, optionally randomised by +/- jitter, so fast conditions are seen almost immediately
+ *   while slow ones are not polled aggressively.
+ */
+public interface PollingStrategy {
+
+    /**
+     * @param poll The number of polls already made in the current wait (0 for the first sleep).
+     * @return How long to sleep before the next poll.
+     */
+    Duration nextInterval(int poll);
+
+    /**
+     * @param interval The interval between polls.
+     * @return A strategy that always sleeps for the same interval.
+     */
+    static PollingStrategy fixed(Duration interval) {
+        return poll -> interval;
+    }
+
+    /**
+     * @param initial The first interval.
+     * @param factor  Growth factor per poll (e.g. 1.5).
+     * @param max     Upper bound for the interval.
+     * @param jitter  Random spread as a fraction of the interval (0 for none, 0.2 for +/-20%).
+     * @return A geometric back-off strategy.
+     */
+    static PollingStrategy geometric(Duration initial, double factor, Duration max, double jitter) {
+        return poll -> {
+            double millis = Math.min(max.toMillis(), initial.toMillis() * Math.pow(factor, poll));
+            if (jitter > 0) {
+                millis *= 1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+            }
+            return Duration.ofMillis(Math.max(1, Math.round(Math.min(millis, max.toMillis()))));
+        };
+    }
+
+    /**
+     * Builds the strategy selected by wait.polling.strategy: "adaptive" (default) uses
+     * wait.polling.initial.millis, wait.polling.factor, wait.polling.max.millis and wait.polling.jitter;
+     * "fixed" uses wait.polling.millis.
+     *
+     * @return The configured strategy.
+     */
+    static PollingStrategy fromConfig() {
+        if ("fixed".equalsIgnoreCase(ConfigManager.getProperty("wait.polling.strategy", "adaptive"))) {
+            return fixed(Duration.ofMillis(Long.parseLong(ConfigManager.getProperty("wait.polling.millis", "500"))));
+        }
+        return geometric(
+                Duration.ofMillis(Long.parseLong(ConfigManager.getProperty("wait.polling.initial.millis", "50"))),
+                Double.parseDouble(ConfigManager.getProperty("wait.polling.factor", "1.5")),
+                Duration.ofMillis(Long.parseLong(ConfigManager.getProperty("wait.polling.max.millis", "500"))),
+                Double.parseDouble(ConfigManager.getProperty("wait.polling.jitter", "0.2")));
+    }
+}
@@ -0,0 +1,228 @@
+package com.orangehrm.testng.utils;
+
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+import org.openqa.selenium.remote.http.jdk.JdkHttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class Name: RemoteHttpClientFactory
+ *
+ * Description:
+ * Shared HTTP transport for RemoteWebDriver command traffic. Every session talking to the same grid hub
+ * goes through the same JDK HttpClients, so keep-alive connections are pooled and reused across sessions
+ * instead of each session opening its own.
+ *
+ * Key Features:
+ * - One JDK-based client per server, closed on JVM exit rather than when a session quits.
+ * - Per-command timeouts: new session, navigation and every other command have separate limits
+ *   (remote.http.session/navigation/command.timeout.seconds). Each limit is the read timeout of the
+ *   HTTP request itself, so the JDK client aborts the exchange when it expires.
+ * - Per-command round-trip latency metrics, grouped by HTTP method and command path.
+ *
+ * Dependencies:
+ * - Selenium remote HTTP client (JDK implementation).
+ * - SLF4J (Log4j) for logging.
+ */
+public class RemoteHttpClientFactory implements HttpClient.Factory {
+
+    private static final Logger logger = LoggerFactory.getLogger(RemoteHttpClientFactory.class);
+
+    private static final Pattern SESSION_ID = Pattern.compile("/session/([^/]+)");
+    private static final Pattern ELEMENT_ID = Pattern.compile("/(element|shadow)/[^/]+(?=/|$)");
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigManager.getProperty("remote.http.pooled", "false"));
+    private static final RemoteHttpClientFactory shared = new RemoteHttpClientFactory(
+            Duration.ofSeconds(Long.parseLong(ConfigManager.getProperty("remote.http.connect.timeout.seconds", "10"))),
+            Duration.ofSeconds(Long.parseLong(ConfigManager.getProperty("remote.http.command.timeout.seconds", "60"))),
+            Duration.ofSeconds(Long.parseLong(ConfigManager.getProperty("remote.http.navigation.timeout.seconds", "120"))),
+            Duration.ofSeconds(Long.parseLong(ConfigManager.getProperty("remote.http.session.timeout.seconds", "300"))));
+
+    private final Duration connectTimeout;
+    private final Duration commandTimeout;
+    private final Duration navigationTimeout;
+    private final Duration sessionTimeout;
+    private final JdkHttpClient.Factory delegateFactory = new JdkHttpClient.Factory();
+    // one transport per server and read timeout: the JDK client applies its read timeout to every request
+    private final Map<String, HttpClient> transports = new ConcurrentHashMap<>();
+    private final Map<String, TimingStats> commandLatency = new ConcurrentHashMap<>();
+    private final AtomicBoolean shutdownHookRegistered = new AtomicBoolean(false);
+
+    public RemoteHttpClientFactory(Duration connectTimeout, Duration commandTimeout,
+                                   Duration navigationTimeout, Duration sessionTimeout) {
+        this.connectTimeout = connectTimeout;
+        this.commandTimeout = commandTimeout;
+        this.navigationTimeout = navigationTimeout;
+        this.sessionTimeout = sessionTimeout;
+    }
+
+    /**
+     * @return The factory configured from ConfigManager and shared by all sessions of the run.
+     */
+    public static RemoteHttpClientFactory shared() {
+        return shared;
+    }
+
+    /**
+     * Creates a RemoteWebDriver on the shared transport, or with Selenium's default per-session
+     * client when remote.http.pooled=false.
+     *
+     * @param serverUrl    The grid hub or driver service URL.
+     * @param capabilities The requested capabilities.
+     * @return The new session.
+     */
+    public static RemoteWebDriver newSession(URL serverUrl, Capabilities capabilities) {
+        return ENABLED ? shared.newRemoteDriver(serverUrl, capabilities) : new RemoteWebDriver(serverUrl, capabilities);
+    }
+
+    /**
+     * Creates a RemoteWebDriver whose command traffic goes through this factory's shared transport.
+     *
+     * @param serverUrl    The grid hub or driver service URL.
+     * @param capabilities The requested capabilities.
+     * @return The new session.
+     */
+    public RemoteWebDriver newRemoteDriver(URL serverUrl, Capabilities capabilities) {
+        HttpCommandExecutor executor = new HttpCommandExecutor(Collections.emptyMap(),
+                ClientConfig.defaultConfig().baseUrl(serverUrl), this);
+        return new RemoteWebDriver(executor, capabilities);
+    }
+
+    @Override
+    public HttpClient createClient(ClientConfig config) {
+        registerShutdownHook();
+        return new SessionClient(transport(config, commandTimeout), transport(config, navigationTimeout),
+                transport(config, sessionTimeout));
+    }
+
+    private HttpClient transport(ClientConfig config, Duration readTimeout) {
+        return transports.computeIfAbsent(config.baseUri() + " " + readTimeout, key -> {
+            logger.debug("Opening shared HTTP transport to {} with a {} s read timeout", config.baseUri(), readTimeout.getSeconds());
+            return delegateFactory.createClient(config.connectionTimeout(connectTimeout).readTimeout(readTimeout));
+        });
+    }
+
+    /**
+     * @return Round-trip latency per command ("METHOD /session/{id}/path").
+     */
+    public Map<String, TimingStats> getCommandLatency() {
+        return Collections.unmodifiableMap(commandLatency);
+    }
+
+    /**
+     * @return The commands with the highest total round-trip time, for suite logs.
+     */
+    public String describeMetrics() {
+        return "Remote command latency - " + commandLatency.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, TimingStats> e) -> e.getValue().getTotalMillis()).reversed())
+                .limit(10)
+                .map(e -> e.getKey() + " [" + e.getValue() + "]")
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Clears the per-command latency statistics.
+     */
+    public void resetMetrics() {
+        commandLatency.clear();
+    }
+
+    /**
+     * Closes every shared connection pool.
+     */
+    public void shutdown() {
+        transports.values().forEach(HttpClient::close);
+        transports.clear();
+    }
+
+    private Duration timeoutFor(HttpRequest request) {
+        return isNewSession(request) ? sessionTimeout : isNavigation(request) ? navigationTimeout : commandTimeout;
+    }
+
+    private static boolean isNewSession(HttpRequest request) {
+        return request.getMethod() == HttpMethod.POST && request.getUri().matches(".*/session/?$");
+    }
+
+    private static boolean isNavigation(HttpRequest request) {
+        String uri = request.getUri();
+        return request.getMethod() == HttpMethod.POST && (uri.endsWith("/url") || uri.endsWith("/refresh")
+                || uri.endsWith("/back") || uri.endsWith("/forward"));
+    }
+
+    private static String commandKey(HttpRequest request) {
+        String path = SESSION_ID.matcher(request.getUri()).replaceFirst("/session/{id}");
+        path = ELEMENT_ID.matcher(path).replaceAll("/$1/{id}");
+        return request.getMethod() + " " + path;
+    }
+
+    private void registerShutdownHook() {
+        if (shutdownHookRegistered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "remote-http-shutdown"));
+        }
+    }
+
+    /**
+     * A session's view of the shared transports: sends each command through the transport whose read
+     * timeout matches the command, records latency and ignores close() so quitting one session leaves
+     * the pooled connections open for the others.
+     */
+    private final class SessionClient implements HttpClient {
+        private final HttpClient commands;
+        private final HttpClient navigation;
+        private final HttpClient newSession;
+
+        private SessionClient(HttpClient commands, HttpClient navigation, HttpClient newSession) {
+            this.commands = commands;
+            this.navigation = navigation;
+            this.newSession = newSession;
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) throws UncheckedIOException {
+            long start = System.nanoTime();
+            Matcher session = SESSION_ID.matcher(request.getUri());
+            if (session.find()) {
+                SessionRegistry.touch(session.group(1));
+            }
+            HttpClient transport = isNewSession(request) ? newSession : isNavigation(request) ? navigation : commands;
+            try {
+                return transport.execute(request);
+            } catch (TimeoutException e) {
+                throw new TimeoutException(String.format("%s timed out after %d s", commandKey(request), timeoutFor(request).getSeconds()), e);
+            } finally {
+                commandLatency.computeIfAbsent(commandKey(request), k -> new TimingStats()).recordSince(start);
+            }
+        }
+
+        @Override
+        public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            return commands.openSocket(request, listener);
+        }
+
+        @Override
+        public void close() {
+            // the shared transports are closed by RemoteHttpClientFactory.shutdown()
+        }
+    }
+}
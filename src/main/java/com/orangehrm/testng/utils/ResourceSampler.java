@@ -0,0 +1,315 @@
+package com.orangehrm.testng.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class Name: ResourceSampler
+ *
+ * Description:
+ * Samples CPU and resident memory of each local browser session's process tree on a single daemon
+ * thread, so TestNG thread-counts can be sized from measured per-session and whole-machine load.
+ *
+ * A session's processes are found through {@link ProcessHandle}: the browser's root process is located
+ * by its profile directory (Chrome/Edge report it in the capabilities) or its process id (Firefox), and
+ * the tree is that process, its descendants and, when it is a dedicated one, the driver process above it.
+ *
+ * Key Features:
+ * - One sampler thread for all sessions (resource.sample.interval.millis).
+ * - Per-scope statistics (e.g. one test method) and suite-wide statistics of the summed load of all sessions.
+ * - CPU from ProcessHandle, RSS from /proc/&lt;pid&gt;/status; RSS is reported as unavailable off Linux.
+ *
+ * Dependencies:
+ * - Selenium WebDriver.
+ * - SLF4J (Log4j) for logging.
+ */
+public final class ResourceSampler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceSampler.class);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigManager.getProperty("resource.telemetry.enabled", "false"));
+    private static final long INTERVAL_MILLIS = Long.parseLong(ConfigManager.getProperty("resource.sample.interval.millis", "1000"));
+    private static final Pattern DRIVER_PROCESS = Pattern.compile("(?i).*(chromedriver|geckodriver|msedgedriver)(\\.exe)?$");
+
+    private static final Map<WebDriver, TrackedSession> tracked = new ConcurrentHashMap<>();
+    private static volatile ResourceStats suiteStats = new ResourceStats();
+    private static ScheduledExecutorService sampler;
+
+    private ResourceSampler() {}
+
+    /**
+     * Starts sampling a session's process tree. Remote sessions, and sessions whose processes cannot
+     * be found, are ignored.
+     *
+     * @param driver The session.
+     */
+    public static void track(WebDriver driver) {
+        if (!ENABLED || tracked.containsKey(driver) || ConfigManager.isRemoteWebDriver() || !(driver instanceof RemoteWebDriver)) {
+            return;
+        }
+        Optional<ProcessHandle> root = findBrowserProcess(((RemoteWebDriver) driver).getCapabilities());
+        if (root.isEmpty()) {
+            logger.debug("No local browser process found for session, not sampling it.");
+            return;
+        }
+        tracked.put(driver, new TrackedSession((RemoteWebDriver) driver, root.get()));
+        startSampler();
+        logger.debug("Sampling browser process tree rooted at pid {}", root.get().pid());
+    }
+
+    /**
+     * Starts a new statistics scope for a session, e.g. at the start of a test method.
+     *
+     * @param driver The session.
+     */
+    public static void beginScope(WebDriver driver) {
+        TrackedSession session = tracked.get(driver);
+        if (session != null) {
+            session.scope = new ResourceStats();
+        }
+    }
+
+    /**
+     * Ends the current scope of a session.
+     *
+     * @param driver The session.
+     * @return The statistics collected since {@link #beginScope}, or empty when the session is not sampled.
+     */
+    public static Optional<ResourceStats> endScope(WebDriver driver) {
+        TrackedSession session = tracked.get(driver);
+        if (session == null || session.scope == null) {
+            return Optional.empty();
+        }
+        ResourceStats scope = session.scope;
+        session.scope = null;
+        return Optional.of(scope);
+    }
+
+    /**
+     * Starts a fresh suite-wide statistics window.
+     */
+    public static void resetSuite() {
+        suiteStats = new ResourceStats();
+    }
+
+    /**
+     * @return The summed load of all sampled sessions since the last {@link #resetSuite()}.
+     */
+    public static ResourceStats getSuiteStats() {
+        return suiteStats;
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    private static synchronized void startSampler() {
+        if (sampler != null) {
+            return;
+        }
+        sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "resource-sampler");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(() -> {
+            try {
+                sampleAll();
+            } catch (RuntimeException e) {
+                logger.debug("Resource sample failed: {}", e.getMessage());
+            }
+        }, INTERVAL_MILLIS, INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private static void sampleAll() {
+        double totalCpu = 0;
+        long totalRss = 0;
+        boolean anySample = false;
+        for (TrackedSession session : new ArrayList<>(tracked.values())) {
+            if (session.driver.getSessionId() == null || !session.root.isAlive()) {
+                tracked.remove(session.driver);
+                continue;
+            }
+            double[] sample = session.sample();
+            if (sample == null) {
+                continue;
+            }
+            anySample = true;
+            totalCpu += sample[0];
+            totalRss += (long) sample[1];
+            ResourceStats scope = session.scope;
+            if (scope != null) {
+                scope.record(sample[0], (long) sample[1]);
+            }
+        }
+        if (anySample) {
+            suiteStats.record(totalCpu, totalRss);
+        }
+    }
+
+    /**
+     * Finds the root browser process of a local session.
+     */
+    private static Optional<ProcessHandle> findBrowserProcess(Capabilities capabilities) {
+        Object firefoxPid = capabilities.getCapability("moz:processID");
+        if (firefoxPid instanceof Number) {
+            return ProcessHandle.of(((Number) firefoxPid).longValue());
+        }
+        String userDataDir = chromiumUserDataDir(capabilities);
+        if (userDataDir == null) {
+            return Optional.empty();
+        }
+        String profileArgument = "--user-data-dir=" + userDataDir;
+        // renderer and GPU children carry the profile argument too; the root is the one whose parent does not
+        return ProcessHandle.current().descendants()
+                .filter(p -> hasArgument(p, profileArgument))
+                .filter(p -> p.parent().map(parent -> !hasArgument(parent, profileArgument)).orElse(true))
+                .findFirst();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String chromiumUserDataDir(Capabilities capabilities) {
+        for (String key : new String[]{"chrome", "msedge"}) {
+            Object details = capabilities.getCapability(key);
+            if (details instanceof Map && ((Map<String, Object>) details).get("userDataDir") != null) {
+                return String.valueOf(((Map<String, Object>) details).get("userDataDir"));
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasArgument(ProcessHandle process, String argument) {
+        return process.info().arguments().map(args -> Stream.of(args).anyMatch(argument::equals)).orElse(false);
+    }
+
+    /**
+     * Resident set size of a process in bytes, or 0 when it cannot be read.
+     */
+    private static long residentBytes(ProcessHandle process) {
+        Path status = Paths.get("/proc", String.valueOf(process.pid()), "status");
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D+", "")) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // process exited or /proc is not available
+        }
+        return 0;
+    }
+
+    /**
+     * A sampled session and the CPU time seen at its previous sample.
+     */
+    private static final class TrackedSession {
+        private final RemoteWebDriver driver;
+        private final ProcessHandle root;
+        private final ProcessHandle dedicatedDriver;
+        private volatile ResourceStats scope;
+        private long lastCpuNanos = -1;
+        private long lastSampleNanos;
+
+        private TrackedSession(RemoteWebDriver driver, ProcessHandle root) {
+            this.driver = driver;
+            this.root = root;
+            // a driver process that is not a pooled service hosts only this session
+            this.dedicatedDriver = root.parent()
+                    .filter(parent -> parent.info().command().map(c -> DRIVER_PROCESS.matcher(c).matches()).orElse(false))
+                    .filter(parent -> parent.children().count() == 1)
+                    .orElse(null);
+        }
+
+        /**
+         * @return {cpu percent of one core since the previous sample, rss bytes}, or null for the first sample.
+         */
+        private double[] sample() {
+            List<ProcessHandle> tree = new ArrayList<>();
+            tree.add(root);
+            root.descendants().forEach(tree::add);
+            if (dedicatedDriver != null) {
+                tree.add(dedicatedDriver);
+            }
+            long cpuNanos = 0;
+            long rss = 0;
+            for (ProcessHandle process : tree) {
+                cpuNanos += process.info().totalCpuDuration().map(Duration::toNanos).orElse(0L);
+                rss += residentBytes(process);
+            }
+            long now = System.nanoTime();
+            double[] sample = null;
+            if (lastCpuNanos >= 0 && now > lastSampleNanos) {
+                double cpuPercent = Math.max(0, cpuNanos - lastCpuNanos) * 100.0 / (now - lastSampleNanos);
+                sample = new double[]{cpuPercent, rss};
+            }
+            lastCpuNanos = cpuNanos;
+            lastSampleNanos = now;
+            return sample;
+        }
+    }
+
+    /**
+     * Peak and average CPU (percent of one core) and resident memory over a series of samples.
+     */
+    public static final class ResourceStats {
+        private long samples;
+        private double cpuTotal;
+        private double cpuPeak;
+        private long rssTotal;
+        private long rssPeak;
+
+        private synchronized void record(double cpuPercent, long rssBytes) {
+            samples++;
+            cpuTotal += cpuPercent;
+            cpuPeak = Math.max(cpuPeak, cpuPercent);
+            rssTotal += rssBytes;
+            rssPeak = Math.max(rssPeak, rssBytes);
+        }
+
+        public synchronized long getSampleCount() {
+            return samples;
+        }
+
+        public synchronized double getAverageCpuPercent() {
+            return samples == 0 ? 0 : cpuTotal / samples;
+        }
+
+        public synchronized double getPeakCpuPercent() {
+            return cpuPeak;
+        }
+
+        public synchronized long getAverageRssBytes() {
+            return samples == 0 ? 0 : rssTotal / samples;
+        }
+
+        public synchronized long getPeakRssBytes() {
+            return rssPeak;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return String.format("samples=%d, cpu avg=%.1f%% peak=%.1f%%, rss avg=%d MB peak=%d MB",
+                    samples, getAverageCpuPercent(), cpuPeak, getAverageRssBytes() >> 20, rssPeak >> 20);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.orangehrm.testng.utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class Name: RetryPolicy
+ *
+ * Description:
+ * Retries element actions that failed for a transient reason, such as a re-rendered element, an overlay
+ * intercepting a click or an element not yet interactable. Anything else fails immediately: an invalid
+ * selector, a lost session or an assertion will not be fixed by trying again.
+ *
+ * Behaviour:
+ * - Up to retry.max.attempts attempts, separated by exponential backoff with full jitter
+ *   (retry.backoff.base.millis doubling per attempt, capped at retry.backoff.max.millis).
+ * - No new attempt is started once retry.budget.millis would be exceeded by its backoff.
+ * - The last failure is rethrown as is, with the previous one attached as a suppressed exception.
+ * - Attempts, retries, fail-fast errors, exhausted retries and durations are counted per action name.
+ *
+ * Policies are immutable and can be shared between threads.
+ *
+ * Dependencies:
+ * - Selenium WebDriver exceptions.
+ * - SLF4J (Log4j) for logging.
+ */
+public final class RetryPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryPolicy.class);
+
+    private static final RetryPolicy defaults = fromConfig();
+    private static final Map<String, ActionStats> actionStats = new ConcurrentHashMap<>();
+
+    private final int maxAttempts;
+    private final long backoffBaseMillis;
+    private final long backoffMaxMillis;
+    private final long budgetMillis;
+
+    public RetryPolicy(int maxAttempts, long backoffBaseMillis, long backoffMaxMillis, long budgetMillis) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffBaseMillis = Math.max(0, backoffBaseMillis);
+        this.backoffMaxMillis = Math.max(this.backoffBaseMillis, backoffMaxMillis);
+        this.budgetMillis = budgetMillis;
+    }
+
+    /**
+     * @return A policy configured from the retry.* properties.
+     */
+    public static RetryPolicy fromConfig() {
+        return new RetryPolicy(
+                Integer.parseInt(ConfigManager.getProperty("retry.max.attempts", "3")),
+                Long.parseLong(ConfigManager.getProperty("retry.backoff.base.millis", "200")),
+                Long.parseLong(ConfigManager.getProperty("retry.backoff.max.millis", "2000")),
+                Long.parseLong(ConfigManager.getProperty("retry.budget.millis", "10000")));
+    }
+
+    /**
+     * @return The shared policy built from configuration.
+     */
+    public static RetryPolicy defaults() {
+        return defaults;
+    }
+
+    /**
+     * @param attempts Maximum number of attempts.
+     * @return A copy of this policy with another attempt limit.
+     */
+    public RetryPolicy withMaxAttempts(int attempts) {
+        return new RetryPolicy(attempts, backoffBaseMillis, backoffMaxMillis, budgetMillis);
+    }
+
+    /**
+     * @param baseMillis The first backoff ceiling, doubled per attempt.
+     * @return A copy of this policy with another backoff base.
+     */
+    public RetryPolicy withBackoffBase(long baseMillis) {
+        return new RetryPolicy(maxAttempts, baseMillis, Math.max(backoffMaxMillis, baseMillis), budgetMillis);
+    }
+
+    /**
+     * Classifies a failure.
+     *
+     * @param failure The failure.
+     * @return True for transient element-state failures worth another attempt: a stale element, an
+     *         intercepted click or an element not yet interactable. A missing element or an expired wait
+     *         is not retried: element actions look elements up through a visibility wait, which already
+     *         had its own timeout.
+     */
+    public static boolean isRetryable(Throwable failure) {
+        return failure instanceof StaleElementReferenceException
+                || failure instanceof ElementClickInterceptedException
+                || failure instanceof ElementNotInteractableException;
+    }
+
+    /**
+     * Runs an action, retrying transient failures.
+     *
+     * @param action Name of the action, used for metrics and logs (e.g. "click").
+     * @param body   The action.
+     */
+    public void run(String action, Runnable body) {
+        call(action, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs an action, retrying transient failures.
+     *
+     * @param action Name of the action, used for metrics and logs (e.g. "findElement").
+     * @param body   The action.
+     * @param <T>    The result type.
+     * @return The action's result.
+     */
+    public <T> T call(String action, Supplier<T> body) {
+        ActionStats stats = actionStats.computeIfAbsent(action, a -> new ActionStats());
+        long start = System.nanoTime();
+        RuntimeException previous = null;
+        try {
+            for (int attempt = 1; ; attempt++) {
+                stats.attempts.increment();
+                try {
+                    return body.get();
+                } catch (RuntimeException e) {
+                    if (previous != null && previous != e) {
+                        e.addSuppressed(previous);
+                    }
+                    previous = e;
+                    if (!isRetryable(e)) {
+                        stats.failedFast.increment();
+                        logger.debug("{} failed with non-retryable {}", action, e.getClass().getSimpleName());
+                        throw e;
+                    }
+                    long backoff = backoffMillis(attempt);
+                    long elapsed = (System.nanoTime() - start) / 1_000_000;
+                    if (attempt >= maxAttempts || elapsed + backoff > budgetMillis) {
+                        stats.exhausted.increment();
+                        logger.error("{} failed after {} attempt(s) in {} ms: {}", action, attempt, elapsed, e.getMessage());
+                        throw e;
+                    }
+                    stats.retries.increment();
+                    logger.warn("Retrying {} (attempt {}/{}) in {} ms after {}", action, attempt + 1, maxAttempts, backoff,
+                            e.getClass().getSimpleName());
+                    sleep(backoff);
+                }
+            }
+        } finally {
+            stats.duration.recordSince(start);
+        }
+    }
+
+    /**
+     * @return One entry per action: attempts, retries, fail-fast and exhausted failures, duration.
+     */
+    public static String describeMetrics() {
+        StringBuilder summary = new StringBuilder("Action retries -");
+        new TreeMap<>(actionStats).forEach((action, stats) -> summary.append(' ').append(action).append(": ").append(stats).append(';'));
+        return summary.toString();
+    }
+
+    /**
+     * Clears the per-action statistics.
+     */
+    public static void resetMetrics() {
+        actionStats.clear();
+    }
+
+    /**
+     * Full-jitter exponential backoff: a random delay between 0 and min(max, base * 2^(attempt-1)).
+     */
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(backoffMaxMillis, backoffBaseMillis << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while backing off before retrying an action", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RetryPolicy[attempts=%d, backoff=%d..%d ms, budget=%d ms]",
+                maxAttempts, backoffBaseMillis, backoffMaxMillis, budgetMillis);
+    }
+
+    /**
+     * Counters for one action name.
+     */
+    private static final class ActionStats {
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder failedFast = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+        private final TimingStats duration = new TimingStats();
+
+        @Override
+        public String toString() {
+            return String.format("attempts=%d, retries=%d, failed fast=%d, retries exhausted=%d, duration [%s]",
+                    attempts.sum(), retries.sum(), failedFast.sum(), exhausted.sum(), duration);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.orangehrm.testng.utils;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.InvalidArgumentException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class Name: SessionCreationPolicy
+ *
+ * Description:
+ * Wraps browser session creation with bounded retries and a per-browser circuit breaker, so a transient
+ * driver or grid failure is retried instead of failing the whole test class, while a grid that keeps
+ * failing makes later classes fail fast instead of each waiting through its own slow failures.
+ *
+ * Behaviour:
+ * - Up to session.create.max.attempts attempts, separated by exponential backoff with full jitter
+ *   (session.create.backoff.base.millis doubling per attempt, capped at session.create.backoff.max.millis).
+ * - The breaker looks at the last session.breaker.window outcomes for a browser. When at least
+ *   session.breaker.min.calls are recorded and the failure rate reaches session.breaker.failure.rate,
+ *   it opens and rejects requests for session.breaker.open.seconds.
+ * - After that a single probe is let through (half-open): success closes the breaker, failure re-opens it.
+ * - Only transient failures (WebDriverException other than invalid arguments, and I/O failures) are retried
+ *   and count towards the breaker. Unsupported browsers, invalid capabilities and browser/driver version
+ *   mismatches fail immediately without touching the breaker.
+ * - Grid admission (waiting for a free slot) happens outside this policy, so an admission timeout is
+ *   neither retried nor counted as a breaker failure.
+ *
+ * Dependencies:
+ * - Selenium WebDriver exceptions.
+ * - SLF4J (Log4j) for logging.
+ */
+public class SessionCreationPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionCreationPolicy.class);
+    private static final int MAX_RECORDED_TRANSITIONS = 100;
+
+    // session-not-created causes that another attempt cannot fix
+    private static final Pattern PERMANENT_FAILURE = Pattern.compile(
+            "(?is).*(only supports .*version|version mismatch|invalid argument|unrecognized capability"
+                    + "|invalid capabilit|matching set of capabilities|cannot find .*binary|no such file).*");
+
+    /**
+     * Circuit breaker states.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int maxAttempts;
+    private final long backoffBaseMillis;
+    private final long backoffMaxMillis;
+    private final int windowSize;
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final long openMillis;
+
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final Map<String, TimingStats> attemptStats = new ConcurrentHashMap<>();
+    private final LongAdder failedAttempts = new LongAdder();
+    private final LongAdder rejectedRequests = new LongAdder();
+    private final Deque<String> transitions = new ArrayDeque<>();
+
+    public SessionCreationPolicy(int maxAttempts, long backoffBaseMillis, long backoffMaxMillis,
+                                 int windowSize, int minCalls, double failureRateThreshold, long openSeconds) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffBaseMillis = backoffBaseMillis;
+        this.backoffMaxMillis = backoffMaxMillis;
+        this.windowSize = windowSize;
+        this.minCalls = minCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openMillis = openSeconds * 1000;
+    }
+
+    /**
+     * @return A policy configured from the session.create.* and session.breaker.* properties.
+     */
+    public static SessionCreationPolicy fromConfig() {
+        return new SessionCreationPolicy(
+                Integer.parseInt(ConfigManager.getProperty("session.create.max.attempts", "3")),
+                Long.parseLong(ConfigManager.getProperty("session.create.backoff.base.millis", "1000")),
+                Long.parseLong(ConfigManager.getProperty("session.create.backoff.max.millis", "10000")),
+                Integer.parseInt(ConfigManager.getProperty("session.breaker.window", "10")),
+                Integer.parseInt(ConfigManager.getProperty("session.breaker.min.calls", "4")),
+                Double.parseDouble(ConfigManager.getProperty("session.breaker.failure.rate", "0.5")),
+                Long.parseLong(ConfigManager.getProperty("session.breaker.open.seconds", "30")));
+    }
+
+    /**
+     * Creates a session, retrying transient failures.
+     *
+     * @param browser The browser name, used to select the circuit breaker.
+     * @param attempt Performs one creation attempt.
+     * @return The created session.
+     * @throws SessionNotCreatedException if the breaker is open or every attempt failed.
+     */
+    public <T extends WebDriver> T create(String browser, Supplier<T> attempt) {
+        CircuitBreaker breaker = breakers.computeIfAbsent(browser.toLowerCase(), CircuitBreaker::new);
+        TimingStats stats = attemptStats.computeIfAbsent(browser.toLowerCase(), b -> new TimingStats());
+        RuntimeException lastFailure = null;
+
+        for (int attemptNumber = 1; attemptNumber <= maxAttempts; attemptNumber++) {
+            if (!breaker.allowRequest()) {
+                rejectedRequests.increment();
+                SessionNotCreatedException rejected = new SessionNotCreatedException(
+                        "Circuit breaker for " + browser + " is open after repeated session failures; failing fast");
+                if (lastFailure != null) {
+                    rejected.addSuppressed(lastFailure);
+                }
+                throw rejected;
+            }
+            long start = System.nanoTime();
+            try {
+                T driver = attempt.get();
+                long millis = stats.recordSince(start);
+                breaker.recordSuccess();
+                logger.info("Session attempt {}/{} for {} succeeded in {} ms", attemptNumber, maxAttempts, browser, millis);
+                return driver;
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    logger.error("Session attempt {}/{} for {} failed permanently: {}", attemptNumber, maxAttempts, browser, e.getMessage());
+                    throw e;
+                }
+                long millis = stats.recordSince(start);
+                failedAttempts.increment();
+                breaker.recordFailure();
+                lastFailure = e;
+                logger.warn("Session attempt {}/{} for {} failed after {} ms: {}", attemptNumber, maxAttempts, browser, millis, e.getMessage());
+                if (attemptNumber < maxAttempts) {
+                    sleep(backoffMillis(attemptNumber));
+                }
+            } finally {
+                // a probe that ended without a recorded outcome must not block the breaker forever
+                breaker.probeFinished();
+            }
+        }
+        throw lastFailure;
+    }
+
+    /**
+     * @param e A session creation failure.
+     * @return true if another attempt may succeed: driver, network and grid errors, but not invalid
+     *         arguments or capabilities, version mismatches or a missing browser binary.
+     */
+    static boolean isTransient(RuntimeException e) {
+        if (e instanceof IllegalArgumentException || e instanceof InvalidArgumentException) {
+            return false;
+        }
+        if (e instanceof WebDriverException) {
+            return e.getMessage() == null || !PERMANENT_FAILURE.matcher(e.getMessage()).matches();
+        }
+        return e instanceof UncheckedIOException;
+    }
+
+    /**
+     * @param browser The browser name.
+     * @return The current breaker state for the browser.
+     */
+    public State getState(String browser) {
+        CircuitBreaker breaker = breakers.get(browser.toLowerCase());
+        return breaker == null ? State.CLOSED : breaker.currentState();
+    }
+
+    /**
+     * @return The most recent breaker transitions, oldest first.
+     */
+    public List<String> getTransitions() {
+        synchronized (transitions) {
+            return new ArrayList<>(transitions);
+        }
+    }
+
+    /**
+     * @return A one-line summary of attempts, failures and breaker states, suitable for suite logs.
+     */
+    public String describeMetrics() {
+        StringBuilder summary = new StringBuilder("Session creation - failed attempts: ").append(failedAttempts.sum())
+                .append(", rejected by breaker: ").append(rejectedRequests.sum()).append(';');
+        attemptStats.forEach((browser, stats) -> summary.append(' ').append(browser).append(": ")
+                .append(getState(browser)).append(", attempts [").append(stats).append("];"));
+        return summary.toString();
+    }
+
+    /**
+     * Clears attempt and rejection counts, e.g. at the start of a suite. Breaker states are kept.
+     */
+    public void resetMetrics() {
+        failedAttempts.reset();
+        rejectedRequests.reset();
+        attemptStats.values().forEach(TimingStats::reset);
+    }
+
+    /**
+     * Full-jitter exponential backoff: a random delay between 0 and min(max, base * 2^(attempt-1)).
+     */
+    private long backoffMillis(int attemptNumber) {
+        long ceiling = Math.min(backoffMaxMillis, backoffBaseMillis << Math.min(attemptNumber - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SessionNotCreatedException("Interrupted while backing off before retrying session creation");
+        }
+    }
+
+    private void recordTransition(String browser, State from, State to, String reason) {
+        String event = String.format("%tT %s %s -> %s (%s)", System.currentTimeMillis(), browser, from, to, reason);
+        logger.warn("Session circuit breaker: {}", event);
+        synchronized (transitions) {
+            transitions.addLast(event);
+            if (transitions.size() > MAX_RECORDED_TRANSITIONS) {
+                transitions.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * Count-based circuit breaker over the last {@code windowSize} outcomes of one browser.
+     */
+    private final class CircuitBreaker {
+        private final String browser;
+        private final Deque<Boolean> outcomes = new ArrayDeque<>();
+        private State state = State.CLOSED;
+        private long openedAt;
+        private Thread probeOwner;
+
+        private CircuitBreaker(String browser) {
+            this.browser = browser;
+        }
+
+        private synchronized boolean allowRequest() {
+            if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+                transition(State.HALF_OPEN, "open period elapsed, probing");
+            }
+            if (state == State.HALF_OPEN) {
+                if (probeOwner != null) {
+                    return false;
+                }
+                probeOwner = Thread.currentThread();
+                return true;
+            }
+            return state == State.CLOSED;
+        }
+
+        private synchronized void recordSuccess() {
+            if (state == State.HALF_OPEN) {
+                probeOwner = null;
+                outcomes.clear();
+                transition(State.CLOSED, "probe succeeded");
+            }
+            record(true);
+        }
+
+        private synchronized void probeFinished() {
+            if (probeOwner == Thread.currentThread()) {
+                probeOwner = null;
+            }
+        }
+
+        private synchronized void recordFailure() {
+            if (state == State.HALF_OPEN) {
+                probeOwner = null;
+                open("probe failed");
+                return;
+            }
+            record(false);
+            long failures = outcomes.stream().filter(ok -> !ok).count();
+            if (state == State.CLOSED && outcomes.size() >= minCalls
+                    && (double) failures / outcomes.size() >= failureRateThreshold) {
+                open(String.format("%d of last %d attempts failed", failures, outcomes.size()));
+            }
+        }
+
+        private synchronized State currentState() {
+            return state;
+        }
+
+        private void record(boolean success) {
+            outcomes.addLast(success);
+            if (outcomes.size() > windowSize) {
+                outcomes.removeFirst();
+            }
+        }
+
+        private void open(String reason) {
+            openedAt = System.currentTimeMillis();
+            transition(State.OPEN, reason);
+        }
+
+        private void transition(State to, String reason) {
+            State from = state;
+            state = to;
+            recordTransition(browser, from, to, reason);
+        }
+    }
+}
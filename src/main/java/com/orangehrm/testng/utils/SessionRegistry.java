@@ -0,0 +1,307 @@
+package com.orangehrm.testng.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class Name: SessionRegistry
+ *
+ * Description:
+ * Global registry of every live browser session created by the framework, independent of the
+ * per-thread bookkeeping in {@link DriverManager}. Each entry records its owner thread, creation time
+ * and last command time, so sessions leaked by a skipped tearDown, a failed setUp or a reused TestNG
+ * thread can be found and closed.
+ *
+ * Key Features:
+ * - A background reaper quits sessions whose owner thread has died or that were abandoned on a reused
+ *   thread, and unowned sessions (e.g. idle in the pool) unused for longer than registry.idle.timeout.minutes.
+ *   A session whose owner thread is still alive is never idle-reaped: page objects drive it without going
+ *   through DriverManager, so its last command time can lag behind a running test.
+ * - Pooled sessions are reaped through {@link DriverSessionPool#discard}, so their pool slot is freed.
+ * - On JVM exit, remaining sessions are quit and leftover driver/browser child processes are killed
+ *   through {@link ProcessHandle}.
+ * - Leak counts (reaped idle, reaped orphaned, still open) for the suite summary.
+ *
+ * Last command times come from the shared remote HTTP transport; sessions on other transports are
+ * touched whenever DriverManager hands them out.
+ *
+ * Dependencies:
+ * - Selenium WebDriver.
+ * - SLF4J (Log4j) for logging.
+ */
+public final class SessionRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionRegistry.class);
+
+    private static final Pattern BROWSER_PROCESS = Pattern.compile(
+            "(?i).*(chromedriver|geckodriver|msedgedriver|chrome|chromium|firefox|msedge)(\\.exe)?$");
+
+    private static final long IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(
+            Long.parseLong(ConfigManager.getProperty("registry.idle.timeout.minutes", "15")));
+    private static final long REAPER_INTERVAL_SECONDS =
+            Long.parseLong(ConfigManager.getProperty("registry.reaper.interval.seconds", "60"));
+
+    private static final Map<WebDriver, SessionRecord> sessions = new ConcurrentHashMap<>();
+    private static final Map<String, SessionRecord> sessionsById = new ConcurrentHashMap<>();
+    private static final AtomicBoolean started = new AtomicBoolean(false);
+    private static final LongAdder registeredCount = new LongAdder();
+    private static final LongAdder reapedIdle = new LongAdder();
+    private static final LongAdder reapedOrphaned = new LongAdder();
+    private static ScheduledExecutorService reaper;
+
+    private SessionRegistry() {}
+
+    /**
+     * Registers a newly created session, owned by the current thread.
+     *
+     * @param driver The new session.
+     */
+    public static void register(WebDriver driver) {
+        startReaper();
+        SessionRecord record = new SessionRecord(driver);
+        sessions.put(driver, record);
+        sessionId(driver).ifPresent(id -> sessionsById.put(id, record));
+        registeredCount.increment();
+        logger.debug("Registered session {} for thread {}", record.sessionId, record.ownerName);
+    }
+
+    /**
+     * Marks the session as in use by the current thread.
+     */
+    public static void markOwned(WebDriver driver) {
+        SessionRecord record = sessions.get(driver);
+        if (record != null) {
+            record.owner = Thread.currentThread();
+            record.ownerName = record.owner.getName();
+            record.orphaned = false;
+            record.touch();
+        }
+    }
+
+    /**
+     * Marks the session as handed back (e.g. idle in the session pool); it no longer has an owner thread.
+     */
+    public static void markReleased(WebDriver driver) {
+        SessionRecord record = sessions.get(driver);
+        if (record != null) {
+            record.owner = null;
+            record.ownerName = "-";
+            record.touch();
+        }
+    }
+
+    /**
+     * Marks a session nobody will release any more, e.g. one left behind on a reused thread.
+     * The reaper quits it on its next pass.
+     */
+    public static void markOrphaned(WebDriver driver) {
+        SessionRecord record = sessions.get(driver);
+        if (record != null && !record.orphaned) {
+            record.orphaned = true;
+            logger.warn("Session {} (owner {}) was abandoned without being released", record.sessionId, record.ownerName);
+        }
+    }
+
+    /**
+     * Records command activity for a session.
+     *
+     * @param sessionId The WebDriver session id.
+     */
+    public static void touch(String sessionId) {
+        SessionRecord record = sessionsById.get(sessionId);
+        if (record != null) {
+            record.touch();
+        }
+    }
+
+    /**
+     * Records activity for a session handed out by DriverManager.
+     */
+    public static void touch(WebDriver driver) {
+        SessionRecord record = sessions.get(driver);
+        if (record != null) {
+            record.touch();
+        }
+    }
+
+    /**
+     * @return The number of registered sessions that have not been quit.
+     */
+    public static int getLiveCount() {
+        prune();
+        return sessions.size();
+    }
+
+    public static long getReapedIdleCount() {
+        return reapedIdle.sum();
+    }
+
+    public static long getReapedOrphanedCount() {
+        return reapedOrphaned.sum();
+    }
+
+    /**
+     * Clears the created and reaped counts, e.g. at the start of a suite. Live sessions stay registered.
+     */
+    public static void resetCounts() {
+        registeredCount.reset();
+        reapedIdle.reset();
+        reapedOrphaned.reset();
+    }
+
+    /**
+     * @return A one-line leak report for suite logs: sessions created, reaped and still open with an owner.
+     */
+    public static String describeLeaks() {
+        prune();
+        long owned = sessions.values().stream().filter(r -> r.owner != null).count();
+        return String.format("Session registry: %d created, %d live (%d owned by a thread), reaped %d idle and %d orphaned",
+                registeredCount.sum(), sessions.size(), owned, reapedIdle.sum(), reapedOrphaned.sum());
+    }
+
+    /**
+     * One reaper pass: forgets sessions that were quit, and quits orphaned ones and unowned idle ones.
+     */
+    static void reap() {
+        long now = System.currentTimeMillis();
+        for (SessionRecord record : new ArrayList<>(sessions.values())) {
+            if (record.isQuit()) {
+                forget(record);
+            } else if (record.orphaned || (record.owner != null && !record.owner.isAlive())) {
+                logger.warn("Reaping orphaned session {} (owner {} gone, created {} s ago)",
+                        record.sessionId, record.ownerName, (now - record.createdAt) / 1000);
+                quit(record);
+                reapedOrphaned.increment();
+            } else if (record.owner == null && now - record.lastCommandAt > IDLE_TIMEOUT_MILLIS) {
+                logger.warn("Reaping session {} of {} idle for {} s", record.sessionId, record.ownerName,
+                        (now - record.lastCommandAt) / 1000);
+                quit(record);
+                reapedIdle.increment();
+            }
+        }
+    }
+
+    private static void prune() {
+        sessions.values().stream().filter(SessionRecord::isQuit).forEach(SessionRegistry::forget);
+    }
+
+    private static void forget(SessionRecord record) {
+        sessions.remove(record.driver);
+        if (record.sessionId != null) {
+            sessionsById.remove(record.sessionId);
+        }
+    }
+
+    private static void quit(SessionRecord record) {
+        try {
+            DriverSessionPool pool = DriverManager.getSessionPool();
+            if (pool.contains(record.driver)) {
+                // frees the lease permit and the pool's bookkeeping along with the session
+                pool.discard(record.driver);
+            } else {
+                record.driver.quit();
+            }
+        } catch (WebDriverException e) {
+            logger.debug("Error while quitting session {}: {}", record.sessionId, e.getMessage());
+        }
+        forget(record);
+    }
+
+    private static synchronized void startReaper() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        reaper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "session-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reaper.scheduleWithFixedDelay(() -> {
+            try {
+                reap();
+            } catch (RuntimeException e) {
+                logger.warn("Session reaper pass failed: {}", e.getMessage());
+            }
+        }, REAPER_INTERVAL_SECONDS, REAPER_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(SessionRegistry::shutdown, "session-registry-shutdown"));
+    }
+
+    /**
+     * Quits every remaining session and kills driver and browser processes still running under this JVM.
+     */
+    private static void shutdown() {
+        reaper.shutdownNow();
+        prune();
+        if (!sessions.isEmpty()) {
+            logger.warn("{} session(s) still open at shutdown, quitting them.", sessions.size());
+            new ArrayList<>(sessions.values()).forEach(SessionRegistry::quit);
+        }
+        List<ProcessHandle> leftovers = new ArrayList<>();
+        ProcessHandle.current().descendants()
+                .filter(p -> p.info().command().map(c -> BROWSER_PROCESS.matcher(c).matches()).orElse(false))
+                .forEach(leftovers::add);
+        for (ProcessHandle process : leftovers) {
+            process.destroy();
+        }
+        for (ProcessHandle process : leftovers) {
+            try {
+                process.onExit().get(2, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                process.destroyForcibly();
+            }
+        }
+        if (!leftovers.isEmpty()) {
+            logger.warn("Killed {} leftover driver/browser process(es) at shutdown.", leftovers.size());
+        }
+    }
+
+    private static Optional<String> sessionId(WebDriver driver) {
+        if (driver instanceof RemoteWebDriver) {
+            SessionId id = ((RemoteWebDriver) driver).getSessionId();
+            return id == null ? Optional.empty() : Optional.of(id.toString());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Bookkeeping for one session.
+     */
+    private static final class SessionRecord {
+        private final WebDriver driver;
+        private final String sessionId;
+        private final long createdAt = System.currentTimeMillis();
+        private volatile long lastCommandAt = createdAt;
+        private volatile Thread owner = Thread.currentThread();
+        private volatile String ownerName = owner.getName();
+        private volatile boolean orphaned;
+
+        private SessionRecord(WebDriver driver) {
+            this.driver = driver;
+            this.sessionId = sessionId(driver).orElse(null);
+        }
+
+        private void touch() {
+            lastCommandAt = System.currentTimeMillis();
+        }
+
+        private boolean isQuit() {
+            return driver instanceof RemoteWebDriver && ((RemoteWebDriver) driver).getSessionId() == null;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.orangehrm.testng.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * Class Name: StreamingExcelReader
+ *
+ * Description:
+ * Reads .xlsx test data row by row with the POI XSSF event model (SAX over the sheet XML plus the shared
+ * strings table) instead of building an XSSFWorkbook. Rows are handed to the caller as they are parsed, so
+ * memory stays flat regardless of row count and reading can stop as soon as the caller has what it needs.
+ *
+ * Key Features:
+ * - The first non-empty row is the header; every later row becomes a map of header to cell value.
+ * - Sheet selection by name or index (first sheet by default); column selection by header name.
+ * - Cell values are formatted as Excel displays them (DataFormatter), so 123 stays "123" rather than "123.0".
+ * - Empty cells read as ""; rows without any value are skipped.
+ *
+ * Readers are immutable; withSheet/withColumns return configured copies.
+ *
+ * Dependencies:
+ * - Apache POI (poi-ooxml) event model.
+ * - SLF4J (Log4j) for logging.
+ */
+public final class StreamingExcelReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingExcelReader.class);
+
+    private final Path file;
+    private final String sheetName;
+    private final int sheetIndex;
+    private final List<String> columns;
+
+    private StreamingExcelReader(Path file, String sheetName, int sheetIndex, List<String> columns) {
+        this.file = file;
+        this.sheetName = sheetName;
+        this.sheetIndex = sheetIndex;
+        this.columns = columns;
+    }
+
+    /**
+     * @param filePath Path to the .xlsx file.
+     * @return A reader of every column of the first sheet.
+     */
+    public static StreamingExcelReader of(String filePath) {
+        return new StreamingExcelReader(Paths.get(filePath), null, 0, List.of());
+    }
+
+    /**
+     * @param name The sheet name.
+     * @return A copy of this reader that reads the named sheet.
+     */
+    public StreamingExcelReader withSheet(String name) {
+        return new StreamingExcelReader(file, name, -1, columns);
+    }
+
+    /**
+     * @param index Zero-based sheet index in workbook order.
+     * @return A copy of this reader that reads the sheet at the index.
+     */
+    public StreamingExcelReader withSheet(int index) {
+        return new StreamingExcelReader(file, null, index, columns);
+    }
+
+    /**
+     * @param headers Header names of the columns to keep, in the order they should appear in each row.
+     * @return A copy of this reader that keeps only these columns.
+     */
+    public StreamingExcelReader withColumns(String... headers) {
+        return withColumns(Arrays.asList(headers));
+    }
+
+    /**
+     * @param headers Header names of the columns to keep, in the order they should appear in each row.
+     * @return A copy of this reader that keeps only these columns.
+     */
+    public StreamingExcelReader withColumns(Collection<String> headers) {
+        return new StreamingExcelReader(file, sheetName, sheetIndex, List.copyOf(headers));
+    }
+
+    /**
+     * Reads every row of the selected sheet.
+     *
+     * @return The rows, in sheet order.
+     * @throws IOException If the file cannot be read, the sheet does not exist or a selected column is missing.
+     */
+    public List<Map<String, String>> readAll() throws IOException {
+        List<Map<String, String>> rows = new ArrayList<>();
+        forEachRow(rows::add);
+        return rows;
+    }
+
+    /**
+     * Reads the rows of the selected sheet whose column has the given value, without keeping the others.
+     *
+     * @param column The header name to match.
+     * @param value  The value to match.
+     * @return The matching rows, in sheet order.
+     * @throws IOException If the file cannot be read, the sheet does not exist or a selected column is missing.
+     */
+    public List<Map<String, String>> readWhere(String column, String value) throws IOException {
+        List<Map<String, String>> rows = new ArrayList<>();
+        forEachRow(row -> {
+            if (value.equals(row.get(column))) {
+                rows.add(row);
+            }
+            return true;
+        });
+        return rows;
+    }
+
+    /**
+     * Streams the rows of the selected sheet to a handler as they are parsed.
+     *
+     * @param handler Receives each row; returns false to stop reading.
+     * @return The number of rows handed to the handler.
+     * @throws IOException If the file cannot be read, the sheet does not exist or a selected column is missing.
+     */
+    public int forEachRow(Predicate<Map<String, String>> handler) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            throw new IOException("File not found: " + file);
+        }
+        long start = System.nanoTime();
+        RowCollector collector = new RowCollector(handler);
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            for (int index = 0; sheets.hasNext(); index++) {
+                try (InputStream sheet = sheets.next()) {
+                    if (sheetName != null ? sheetName.equals(sheets.getSheetName()) : index == sheetIndex) {
+                        XMLReader parser = XMLHelper.newXMLReader();
+                        parser.setContentHandler(new XSSFSheetXMLHandler(styles, strings, collector, new DataFormatter(), false));
+                        try {
+                            parser.parse(new InputSource(sheet));
+                        } catch (StopReading e) {
+                            // the handler has what it needs
+                        }
+                        collector.checkColumns();
+                        logger.info("Read {} row(s) from sheet '{}' of {} in {} ms", collector.delivered, sheets.getSheetName(),
+                                file.getFileName(), (System.nanoTime() - start) / 1_000_000);
+                        return collector.delivered;
+                    }
+                }
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Error reading Excel file: " + file, e);
+        } catch (MissingColumns e) {
+            throw new IOException(e.getMessage() + " in " + file);
+        }
+        throw new IOException("Sheet " + (sheetName != null ? "'" + sheetName + "'" : "#" + sheetIndex) + " not found in " + file);
+    }
+
+    /**
+     * Turns SAX cell events into header-keyed rows. Holds only the header and the current row.
+     */
+    private final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final Predicate<Map<String, String>> handler;
+        private final Map<Integer, String> header = new HashMap<>();
+        private final Map<Integer, String> current = new HashMap<>();
+        private boolean headerRead;
+        private int delivered;
+
+        private RowCollector(Predicate<Map<String, String>> handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            current.clear();
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            if (cellReference != null && formattedValue != null && !formattedValue.isEmpty()) {
+                current.put((int) new CellReference(cellReference).getCol(), formattedValue);
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (current.isEmpty()) {
+                return;
+            }
+            if (!headerRead) {
+                current.forEach((col, name) -> header.put(col, name.trim()));
+                headerRead = true;
+                checkColumns();
+                return;
+            }
+            delivered++;
+            if (!handler.test(toRow())) {
+                throw new StopReading();
+            }
+        }
+
+        private Map<String, String> toRow() {
+            Map<String, String> row = new LinkedHashMap<>();
+            if (columns.isEmpty()) {
+                header.entrySet().stream().sorted(Map.Entry.comparingByKey())
+                        .forEach(e -> row.put(e.getValue(), current.getOrDefault(e.getKey(), "")));
+            } else {
+                for (String column : columns) {
+                    row.put(column, "");
+                }
+                header.forEach((col, name) -> {
+                    if (row.containsKey(name)) {
+                        row.put(name, current.getOrDefault(col, ""));
+                    }
+                });
+            }
+            return row;
+        }
+
+        private void checkColumns() {
+            if (!headerRead || columns.isEmpty()) {
+                return;
+            }
+            Set<String> missing = new LinkedHashSet<>(columns);
+            missing.removeAll(header.values());
+            if (!missing.isEmpty()) {
+                throw new MissingColumns("Column(s) " + missing + " not found, header is " + header.values());
+            }
+        }
+    }
+
+    /**
+     * Thrown from the SAX callbacks to end parsing early.
+     */
+    private static final class StopReading extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private StopReading() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Thrown from the SAX callbacks when a selected column is not in the header.
+     */
+    private static final class MissingColumns extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private MissingColumns(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.orangehrm.testng.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Class Name: StreamingJsonReader
+ *
+ * Description:
+ * Reads JSON test data (a top-level array of flat objects) token by token with Jackson's JsonParser instead of
+ * binding the whole file. Field filters such as story == "Invalid Credentials" are applied while a record is
+ * parsed: as soon as a filtered field does not match, the rest of the record is skipped without being read into
+ * a map. Matching records are produced one at a time, on demand.
+ *
+ * Key Features:
+ * - where(field, value) / where(field, predicate) filters, combined with AND; a missing field does not match an
+ *   equality filter.
+ * - stream() yields records lazily and must be closed; readAll() and readWhere() collect into a list.
+ * - Scalar values are read as text (numbers and booleans as written, null as null); nested objects and arrays
+ *   are skipped.
+ *
+ * Readers are immutable; where() returns configured copies.
+ *
+ * Dependencies:
+ * - Jackson core (JsonParser).
+ * - SLF4J (Log4j) for logging.
+ */
+public final class StreamingJsonReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingJsonReader.class);
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Path file;
+    private final Map<String, Predicate<String>> filters;
+
+    private StreamingJsonReader(Path file, Map<String, Predicate<String>> filters) {
+        this.file = file;
+        this.filters = filters;
+    }
+
+    /**
+     * @param filePath Path to the JSON file.
+     * @return A reader of every record in the file.
+     */
+    public static StreamingJsonReader of(String filePath) {
+        return new StreamingJsonReader(Paths.get(filePath), Map.of());
+    }
+
+    /**
+     * @param field The field to match.
+     * @param value The value it must equal.
+     * @return A copy of this reader that only yields records whose field equals the value.
+     */
+    public StreamingJsonReader where(String field, String value) {
+        return where(field, value::equals);
+    }
+
+    /**
+     * @param field     The field to test.
+     * @param predicate Tested with the field's text, or null when the record has no such field or it is null.
+     * @return A copy of this reader that only yields records whose field passes the predicate.
+     */
+    public StreamingJsonReader where(String field, Predicate<String> predicate) {
+        Map<String, Predicate<String>> combined = new LinkedHashMap<>(filters);
+        combined.merge(field, predicate, Predicate::and);
+        return new StreamingJsonReader(file, combined);
+    }
+
+    /**
+     * @return Every matching record, in file order.
+     * @throws IOException If the file cannot be read or is not an array of objects.
+     */
+    public List<Map<String, String>> readAll() throws IOException {
+        try (Stream<Map<String, String>> records = stream()) {
+            return records.collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @param field The field to match.
+     * @param value The value it must equal.
+     * @return Every matching record whose field also equals the value, in file order.
+     * @throws IOException If the file cannot be read or is not an array of objects.
+     */
+    public List<Map<String, String>> readWhere(String field, String value) throws IOException {
+        return where(field, value).readAll();
+    }
+
+    /**
+     * Opens the file and yields matching records as the stream is consumed. Close the stream to release the file.
+     *
+     * @return The matching records.
+     * @throws IOException If the file cannot be opened or does not start with an array.
+     *                     Later read errors surface as UncheckedIOException from the stream.
+     */
+    public Stream<Map<String, String>> stream() throws IOException {
+        if (!Files.isRegularFile(file)) {
+            throw new IOException("File not found: " + file);
+        }
+        JsonParser parser = JSON_FACTORY.createParser(file.toFile());
+        try {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of records in " + file);
+            }
+        } catch (IOException e) {
+            parser.close();
+            throw e;
+        }
+        RecordSpliterator records = new RecordSpliterator(parser);
+        return StreamSupport.stream(records, false).onClose(() -> {
+            logger.info("Read {} of {} record(s) from {}", records.matched, records.parsed, file.getFileName());
+            try {
+                parser.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Pulls one matching record per tryAdvance from the parser.
+     */
+    private final class RecordSpliterator extends Spliterators.AbstractSpliterator<Map<String, String>> {
+        private final JsonParser parser;
+        private int parsed;
+        private int matched;
+        private boolean finished;
+
+        private RecordSpliterator(JsonParser parser) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Map<String, String>> action) {
+            if (finished) {
+                return false;
+            }
+            try {
+                for (JsonToken token = next(); token != JsonToken.END_ARRAY; token = next()) {
+                    if (token != JsonToken.START_OBJECT) {
+                        throw new IOException("Expected a JSON object at " + parser.getCurrentLocation() + " in " + file);
+                    }
+                    parsed++;
+                    Map<String, String> record = readRecord();
+                    if (record != null) {
+                        matched++;
+                        action.accept(record);
+                        return true;
+                    }
+                }
+                finished = true;
+                return false;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * @return The record, or null if a filter rejected it; the parser is then past the record's end.
+         */
+        private Map<String, String> readRecord() throws IOException {
+            Map<String, String> record = new LinkedHashMap<>();
+            Set<String> tested = filters.isEmpty() ? Set.of() : new HashSet<>();
+            for (JsonToken token = next(); token != JsonToken.END_OBJECT; token = next()) {
+                String field = parser.getCurrentName();
+                JsonToken value = next();
+                if (value.isStructStart()) {
+                    parser.skipChildren();
+                    continue;
+                }
+                String text = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                Predicate<String> filter = filters.get(field);
+                if (filter != null) {
+                    tested.add(field);
+                    if (!filter.test(text)) {
+                        skipRestOfRecord();
+                        return null;
+                    }
+                }
+                record.put(field, text);
+            }
+            for (Map.Entry<String, Predicate<String>> filter : filters.entrySet()) {
+                if (!tested.contains(filter.getKey()) && !filter.getValue().test(null)) {
+                    return null;
+                }
+            }
+            return record;
+        }
+
+        private void skipRestOfRecord() throws IOException {
+            for (JsonToken token = next(); token != JsonToken.END_OBJECT; token = next()) {
+                if (token.isStructStart()) {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        private JsonToken next() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new IOException("Unexpected end of JSON in " + file);
+            }
+            return token;
+        }
+    }
+}
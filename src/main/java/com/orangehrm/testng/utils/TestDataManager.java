@@ -13,8 +13,8 @@
  * Dependencies:
  * - DataUtil for reading data from Excel and JSON files.
  * - Log4j for logging error and info messages.
- * - Apache POI for handling Excel file processing.
- * - Jackson ObjectMapper for JSON file processing.
+ * - Apache POI event model for streaming Excel files (StreamingExcelReader).
+ * - Jackson streaming parser for JSON files (StreamingJsonReader).
  *
  * Usage:
  * - Use `TestDataManager.getTestData(filePath)` to retrieve test data from a file. The file format (Excel, JSON) is automatically detected.
@@ -99,30 +99,36 @@ interface DataProcessor {
     List<Map<String, String>> getData(String filePath) throws IOException;
 }
 
+/**
+ * Streams .xlsx files with StreamingExcelReader; rows are parsed incrementally rather than loading the workbook.
+ */
 class ExcelDataProcessor implements DataProcessor {
     private static final Logger logger = LogManager.getLogger(ExcelDataProcessor.class);
 
     @Override
     public List<Map<String, String>> getData(String filePath) throws IOException {
         try {
-            return DataUtil.getTestData(filePath); // Now using the DataUtil utility method
-        } catch (DataUtil.DataProcessingException e) {
+            return StreamingExcelReader.of(filePath).readAll();
+        } catch (IOException e) {
             logger.error("Error reading Excel file: {}. File path: {}", e.getMessage(), filePath, e);
-            throw new IOException("Error reading Excel file: " + filePath, e);  // Wrapping DataProcessingException as IOException
+            throw e;
         }
     }
 }
 
+/**
+ * Streams .json files with StreamingJsonReader; records are parsed one at a time rather than bound in one go.
+ */
 class JsonDataProcessor implements DataProcessor {
     private static final Logger logger = LogManager.getLogger(JsonDataProcessor.class);
 
     @Override
     public List<Map<String, String>> getData(String filePath) throws IOException {
         try {
-            return DataUtil.getTestData(filePath); // Now using the DataUtil utility method
-        } catch (DataUtil.DataProcessingException e) {
+            return StreamingJsonReader.of(filePath).readAll();
+        } catch (IOException e) {
             logger.error("Error reading JSON file: {}. File path: {}", e.getMessage(), filePath, e);
-            throw new IOException("Error reading JSON file: " + filePath, e);  // Wrapping DataProcessingException as IOException
+            throw e;
         }
     }
 }
@@ -0,0 +1,86 @@
+package com.orangehrm.testng.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class Name: TimingStats
+ *
+ * Description:
+ * Lock-free accumulator for duration samples (count, total, average, min and max).
+ * Used by the driver and wait utilities to expose lightweight timing metrics without
+ * pulling in a metrics library.
+ *
+ * Key Features:
+ * - Safe to record from many test threads concurrently.
+ * - Values are recorded and reported in milliseconds.
+ */
+public class TimingStats {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMillis = new LongAdder();
+    private final AtomicLong maxMillis = new AtomicLong(0);
+    private final AtomicLong minMillis = new AtomicLong(Long.MAX_VALUE);
+
+    /**
+     * Records a single sample.
+     *
+     * @param millis The duration in milliseconds.
+     */
+    public void record(long millis) {
+        count.increment();
+        totalMillis.add(millis);
+        maxMillis.accumulateAndGet(millis, Math::max);
+        minMillis.accumulateAndGet(millis, Math::min);
+    }
+
+    /**
+     * Records the time elapsed since the given {@link System#nanoTime()} value.
+     *
+     * @param startNanos The start timestamp from System.nanoTime().
+     * @return The recorded duration in milliseconds.
+     */
+    public long recordSince(long startNanos) {
+        long millis = (System.nanoTime() - startNanos) / 1_000_000;
+        record(millis);
+        return millis;
+    }
+
+    /**
+     * Discards every recorded sample.
+     */
+    public void reset() {
+        count.reset();
+        totalMillis.reset();
+        maxMillis.set(0);
+        minMillis.set(Long.MAX_VALUE);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalMillis() {
+        return totalMillis.sum();
+    }
+
+    public long getMaxMillis() {
+        return maxMillis.get();
+    }
+
+    public long getMinMillis() {
+        long min = minMillis.get();
+        return min == Long.MAX_VALUE ? 0 : min;
+    }
+
+    public double getAverageMillis() {
+        long samples = getCount();
+        return samples == 0 ? 0.0 : (double) getTotalMillis() / samples;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, avg=%.1f ms, min=%d ms, max=%d ms, total=%d ms",
+                getCount(), getAverageMillis(), getMinMillis(), getMaxMillis(), getTotalMillis());
+    }
+}
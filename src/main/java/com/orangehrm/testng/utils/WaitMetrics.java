@@ -0,0 +1,78 @@
+package com.orangehrm.testng.utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class Name: WaitMetrics
+ *
+ * Description:
+ * Records, per kind of wait (visibility, clickable, text, ...), how long waits actually took compared
+ * with the timeout they were given, how many times they polled and how many timed out. Comparing runs
+ * with wait.polling.strategy=fixed and =adaptive shows the per-step latency saved by adaptive polling.
+ */
+public final class WaitMetrics {
+
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private WaitMetrics() {}
+
+    /**
+     * Records one finished wait.
+     *
+     * @param kind          The kind of wait, e.g. "visibility".
+     * @param elapsedMillis How long the wait took.
+     * @param timeoutMillis The timeout the wait was given.
+     * @param polls         How many times the wait slept between evaluations.
+     * @param timedOut      Whether the wait ended with a timeout.
+     */
+    public static void record(String kind, long elapsedMillis, long timeoutMillis, int polls, boolean timedOut) {
+        Entry entry = entries.computeIfAbsent(kind, k -> new Entry());
+        entry.elapsed.record(elapsedMillis);
+        entry.budgetMillis.add(timeoutMillis);
+        entry.polls.add(polls);
+        if (timedOut) {
+            entry.timeouts.increment();
+        }
+    }
+
+    /**
+     * @param kind The kind of wait.
+     * @return Time actually spent in waits of that kind.
+     */
+    public static TimingStats getElapsedStats(String kind) {
+        return entries.computeIfAbsent(kind, k -> new Entry()).elapsed;
+    }
+
+    /**
+     * Clears the statistics of every kind of wait.
+     */
+    public static void reset() {
+        entries.clear();
+    }
+
+    /**
+     * @return One line per kind of wait: time spent, share of the timeout budget used, polls and timeouts.
+     */
+    public static String describe() {
+        StringBuilder summary = new StringBuilder("Wait metrics -");
+        new TreeMap<>(entries).forEach((kind, entry) -> {
+            long count = entry.elapsed.getCount();
+            long budget = entry.budgetMillis.sum();
+            summary.append(' ').append(kind).append(": [").append(entry.elapsed).append("], ")
+                    .append(String.format("%.1f%% of %d ms budget", budget == 0 ? 0 : entry.elapsed.getTotalMillis() * 100.0 / budget, budget))
+                    .append(", polls/wait ").append(String.format("%.1f", count == 0 ? 0 : entry.polls.sum() / (double) count))
+                    .append(", timeouts ").append(entry.timeouts.sum()).append(';');
+        });
+        return summary.toString();
+    }
+
+    private static final class Entry {
+        private final TimingStats elapsed = new TimingStats();
+        private final LongAdder budgetMillis = new LongAdder();
+        private final LongAdder polls = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+    }
+}
@@ -0,0 +1,231 @@
+package com.orangehrm.testng.utils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+/**
+ * Class Name: WaitSpec
+ *
+ * Description:
+ * Immutable description of one wait: its condition, timeout and polling strategy. Unlike a shared
+ * FluentWait, which withTimeout() reconfigures for every later caller and whose sleeper counts polls,
+ * a spec keeps no state between calls: each {@link #await(WebDriver)} polls with local variables only.
+ * Specs can therefore be shared by any number of threads, page objects and virtual threads.
+ *
+ * Key Features:
+ * - Visibility and clickability specs are created once per locator/timeout pair and reused; text specs
+ *   wait for a visible element containing a text.
+ * - Polling follows a {@link PollingStrategy}; the configured one by default.
+ * - An optional fast path is tried first, e.g. {@link BrowserSideWait} when wait.backend=browser; polling
+ *   takes over when it reports it cannot evaluate the condition.
+ * - Exceptions thrown by the condition are ignored until the timeout, as with FluentWait.ignoring(Exception.class),
+ *   except for a lost session or browser, which fails the wait at once.
+ * - Every wait is recorded in {@link WaitMetrics} under the spec's kind; element lookups also in {@link LocatorProfiler}.
+ * - Successful visibility and clickability waits report how long the element took to appear to {@link LearnedTimeouts};
+ *   text waits do not, as the text can change long after the element appeared.
+ *
+ * @param <T> The value the condition produces.
+ */
+public final class WaitSpec<T> {
+
+    private static final PollingStrategy DEFAULT_POLLING = PollingStrategy.fromConfig();
+    private static final Map<String, WaitSpec<WebElement>> shared = new ConcurrentHashMap<>();
+
+    private final String kind;
+    private final String description;
+    private final Function<WebDriver, T> condition;
+    private final Duration timeout;
+    private final PollingStrategy polling;
+    private final Function<WebDriver, Optional<T>> fastPath;
+    // the element whose appearance time is learned; null for waits that are not element appearances
+    private final By locator;
+
+    private WaitSpec(String kind, String description, Function<WebDriver, T> condition, Duration timeout,
+                     PollingStrategy polling, Function<WebDriver, Optional<T>> fastPath, By locator) {
+        this.kind = kind;
+        this.description = description;
+        this.condition = condition;
+        this.timeout = timeout;
+        this.polling = polling;
+        this.fastPath = fastPath;
+        this.locator = locator;
+    }
+
+    /**
+     * @param locator        The element locator.
+     * @param timeoutSeconds Timeout in seconds.
+     * @return The shared spec waiting for the element to be visible.
+     */
+    public static WaitSpec<WebElement> visibility(By locator, int timeoutSeconds) {
+        return shared.computeIfAbsent("visibility|" + timeoutSeconds + "|" + locator, k -> new WaitSpec<>("visibility",
+                "visibility of " + locator, profiled(locator, ExpectedConditions.visibilityOfElementLocated(locator)::apply),
+                Duration.ofSeconds(timeoutSeconds), DEFAULT_POLLING, inBrowser(locator, BrowserSideWait.Condition.VISIBLE, null, timeoutSeconds), locator));
+    }
+
+    /**
+     * @param locator        The element locator.
+     * @param timeoutSeconds Timeout in seconds.
+     * @return The shared spec waiting for the element to be clickable.
+     */
+    public static WaitSpec<WebElement> clickable(By locator, int timeoutSeconds) {
+        return shared.computeIfAbsent("clickable|" + timeoutSeconds + "|" + locator, k -> new WaitSpec<>("clickable",
+                "element to be clickable: " + locator, profiled(locator, ExpectedConditions.elementToBeClickable(locator)::apply),
+                Duration.ofSeconds(timeoutSeconds), DEFAULT_POLLING, inBrowser(locator, BrowserSideWait.Condition.CLICKABLE, null, timeoutSeconds), locator));
+    }
+
+    /**
+     * @param locator        The element locator.
+     * @param text           The text the element must contain.
+     * @param timeoutSeconds Timeout in seconds.
+     * @return A spec waiting for the element to be visible and contain the text.
+     */
+    public static WaitSpec<WebElement> text(By locator, String text, int timeoutSeconds) {
+        Function<WebDriver, WebElement> visible = profiled(locator, ExpectedConditions.visibilityOfElementLocated(locator)::apply);
+        return new WaitSpec<>("text", "text '" + text + "' to be present in " + locator, driver -> {
+            WebElement element = visible.apply(driver);
+            return element != null && element.getText().contains(text) ? element : null;
+        }, Duration.ofSeconds(timeoutSeconds), DEFAULT_POLLING, inBrowser(locator, BrowserSideWait.Condition.TEXT, text, timeoutSeconds), null);
+    }
+
+    /**
+     * Creates a spec for an arbitrary condition. The condition must itself be stateless to be shared.
+     *
+     * @param kind           The metrics kind, e.g. "any".
+     * @param description    What is waited for, used in the timeout message.
+     * @param condition      Returns a non-null, non-false value once satisfied.
+     * @param timeoutSeconds Timeout in seconds.
+     * @param <V>            The value the condition produces.
+     * @return The spec.
+     */
+    public static <V> WaitSpec<V> of(String kind, String description, Function<WebDriver, V> condition, int timeoutSeconds) {
+        return new WaitSpec<>(kind, description, condition, Duration.ofSeconds(timeoutSeconds), DEFAULT_POLLING, null, null);
+    }
+
+    /**
+     * @param metricsKind The metrics kind to record under.
+     * @return A copy of this spec recorded under another kind.
+     */
+    public WaitSpec<T> withKind(String metricsKind) {
+        return metricsKind.equals(kind) ? this : new WaitSpec<>(metricsKind, description, condition, timeout, polling, fastPath, locator);
+    }
+
+    /**
+     * @param strategy The polling strategy.
+     * @return A copy of this spec that polls with the given strategy.
+     */
+    public WaitSpec<T> withPolling(PollingStrategy strategy) {
+        return new WaitSpec<>(kind, description, condition, timeout, Objects.requireNonNull(strategy), fastPath, locator);
+    }
+
+    /**
+     * @param path Tried once before polling; returns empty when it cannot evaluate the condition, and
+     *             throws TimeoutException when the condition did not hold within the timeout.
+     * @return A copy of this spec with the given fast path.
+     */
+    public WaitSpec<T> withFastPath(Function<WebDriver, Optional<T>> path) {
+        return new WaitSpec<>(kind, description, condition, timeout, polling, path, locator);
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Polls the condition until it is satisfied or the timeout expires.
+     *
+     * @param driver The WebDriver instance.
+     * @return The condition's value.
+     * @throws TimeoutException if the condition is not satisfied within the timeout.
+     */
+    public T await(WebDriver driver) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        int polls = 0;
+        RuntimeException lastError = null;
+        boolean timedOut = false;
+        try {
+            if (fastPath != null) {
+                Optional<T> value = fastPath.apply(driver);
+                if (value.isPresent()) {
+                    return appeared(value.get(), start);
+                }
+            }
+            while (true) {
+                try {
+                    T value = condition.apply(driver);
+                    if (value != null && !Boolean.FALSE.equals(value)) {
+                        return appeared(value, start);
+                    }
+                } catch (NoSuchSessionException | UnreachableBrowserException e) {
+                    throw e;
+                } catch (RuntimeException e) {
+                    lastError = e;
+                }
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    throw new TimeoutException(String.format("Expected condition failed: waiting for %s (tried for %d second(s) with %s polling)",
+                            description, timeout.getSeconds(), polling == DEFAULT_POLLING ? "configured" : "custom"), lastError);
+                }
+                sleep(Math.min(polling.nextInterval(polls++).toNanos(), remainingNanos));
+            }
+        } catch (TimeoutException e) {
+            timedOut = true;
+            throw e;
+        } finally {
+            WaitMetrics.record(kind, (System.nanoTime() - start) / 1_000_000, timeout.toMillis(), polls, timedOut);
+        }
+    }
+
+    private T appeared(T value, long start) {
+        if (locator != null) {
+            LearnedTimeouts.recordAppearance(locator, (System.nanoTime() - start) / 1_000_000);
+        }
+        return value;
+    }
+
+    private static Function<WebDriver, Optional<WebElement>> inBrowser(By locator, BrowserSideWait.Condition condition, String text, int timeoutSeconds) {
+        return driver -> {
+            if (!BrowserSideWait.isEnabled()) {
+                return Optional.empty();
+            }
+            Optional<WebElement> element = new BrowserSideWait(driver).until(locator, condition, text, Duration.ofSeconds(timeoutSeconds));
+            element.ifPresent(e -> LocatorProfiler.found(driver, locator));
+            return element;
+        };
+    }
+
+    private static Function<WebDriver, WebElement> profiled(By locator, Function<WebDriver, WebElement> lookup) {
+        return driver -> LocatorProfiler.measure(driver, locator, () -> lookup.apply(driver));
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return kind + " [" + description + ", timeout " + timeout.getSeconds() + " s]";
+    }
+}
@@ -13,6 +13,9 @@ import org.testng.annotations.Parameters;
 import com.orangehrm.testng.managers.WaitManager;
 import com.orangehrm.testng.pages.LoginPage;
 import com.orangehrm.testng.reports.ExtentReportManager;
+import com.orangehrm.testng.utils.AuthSessionCache;
+import com.orangehrm.testng.utils.BrowserFactory;
+import com.orangehrm.testng.utils.BrowserOptionsBuilder;
 import com.orangehrm.testng.utils.ConfigManager;
 import com.orangehrm.testng.utils.LogUtil;
 import com.orangehrm.testng.utils.TestSetupManager;
@@ -72,14 +75,15 @@ public class BaseTest {
         // Initialize WebDriver
         driver = testSetupManager.initializeDriver(browser, isHeadless, isRemote);
 
-        if (!isHeadless) {
+        // The lean profile runs with a fixed viewport, so only maximize for the standard profile
+        if (!isHeadless && BrowserOptionsBuilder.PerformanceProfile.active() != BrowserOptionsBuilder.PerformanceProfile.LEAN) {
             driver.manage().window().maximize();
             logger.debug("Maximized browser window.");
         }
 
         // Navigate to login page
         String loginUrl = ConfigManager.getProperty("login.url");
-        driver.get(loginUrl);
+        BrowserFactory.navigateTo(driver, loginUrl);
         logger.info("Navigated to Login URL: {}", loginUrl);
 
         // Wait for the login page to load
@@ -98,9 +102,9 @@ public class BaseTest {
     @AfterClass
     public void tearDown() {
         if (driver != null) {
-            logger.info("Closing browser and quitting WebDriver.");
+            logger.info("Releasing WebDriver (returned to the pool or quit).");
             testSetupManager.quitDriver();
-            LogUtil.log("Browser closed and WebDriver instance cleaned.", LogUtil.LogLevel.INFO);
+            LogUtil.log("WebDriver instance released.", LogUtil.LogLevel.INFO);
         } else {
             logger.warn("WebDriver instance was null during teardown.");
         }
@@ -115,6 +119,15 @@ public class BaseTest {
         logger.info("Login button clicked.");
     }
 
+    /**
+     * Starts the test on the dashboard as the given user, restoring a cached authenticated session
+     * when available instead of driving the login form. Use for tests that are not about login itself.
+     */
+    protected void loginWithCachedSession(String username, String password) {
+        logger.info("Authenticating as {} (cached session if available).", username);
+        AuthSessionCache.login(driver, username, password);
+    }
+
     protected void validateDashboard() {
         ExtentReportManager.getTest().info("Validating Dashboard display.");
         logger.info("Validating if Dashboard is displayed after login.");
@@ -0,0 +1,108 @@
+package com.orangehrm.testng.listeners;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import com.orangehrm.testng.reports.AllureReportManager;
+import com.orangehrm.testng.reports.ExtentReportManager;
+import com.orangehrm.testng.utils.DriverManager;
+import com.orangehrm.testng.utils.ResourceSampler;
+import com.orangehrm.testng.utils.ResourceSampler.ResourceStats;
+
+/**
+ * Listener that reports the CPU and memory used by each test's browser session, and at suite end the
+ * peak and average load of all browsers running together, to the logs and to both Allure and Extent reports.
+ * Per-suite figures are what thread-count values should be sized against: peak RSS divided by the
+ * number of parallel sessions gives the memory a single extra thread costs.
+ * Does nothing unless resource.telemetry.enabled=true.
+ */
+public class ResourceTelemetryListener implements ITestListener, ISuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(ResourceTelemetryListener.class);
+
+    private final AtomicInteger unfinishedTests = new AtomicInteger();
+
+    @Override
+    public void onStart(ISuite suite) {
+        unfinishedTests.set(suite.getXmlSuite().getTests().size());
+        if (ResourceSampler.isEnabled()) {
+            ResourceSampler.resetSuite();
+        }
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        WebDriver driver = currentDriver();
+        if (driver != null) {
+            ResourceSampler.beginScope(driver);
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        reportTest(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        reportTest(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        reportTest(result);
+    }
+
+    /**
+     * Adds the suite figures to the reports when the suite's last test finishes. TestNG calls finish events in
+     * reverse listener order, so this runs before ExtentTestListener flushes the report for that test.
+     */
+    @Override
+    public void onFinish(ITestContext context) {
+        if (unfinishedTests.decrementAndGet() > 0 || !ResourceSampler.isEnabled()) {
+            return;
+        }
+        ResourceStats stats = ResourceSampler.getSuiteStats();
+        Map<String, String> info = new LinkedHashMap<>();
+        info.put("Browser CPU peak (% of one core)", String.format("%.1f", stats.getPeakCpuPercent()));
+        info.put("Browser CPU average (% of one core)", String.format("%.1f", stats.getAverageCpuPercent()));
+        info.put("Browser RSS peak (MB)", String.valueOf(stats.getPeakRssBytes() >> 20));
+        info.put("Browser RSS average (MB)", String.valueOf(stats.getAverageRssBytes() >> 20));
+        AllureReportManager.addEnvironmentInfo(info);
+        info.forEach(ExtentReportManager::addSystemInfo);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (ResourceSampler.isEnabled()) {
+            logger.info("Suite '{}' browser resources (all sessions combined): {}", suite.getName(), ResourceSampler.getSuiteStats());
+        }
+    }
+
+    private void reportTest(ITestResult result) {
+        WebDriver driver = currentDriver();
+        if (driver == null) {
+            return;
+        }
+        ResourceSampler.endScope(driver).ifPresent(stats -> {
+            String summary = "Browser resources for " + result.getName() + ": " + stats;
+            logger.info(summary);
+            AllureReportManager.logStep(summary);
+            ExtentReportManager.logStep(summary);
+        });
+    }
+
+    private WebDriver currentDriver() {
+        return ResourceSampler.isEnabled() ? DriverManager.getDriverIfPresent() : null;
+    }
+}
@@ -0,0 +1,85 @@
+package com.orangehrm.testng.listeners;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import com.orangehrm.testng.utils.ConfigManager;
+import com.orangehrm.testng.utils.DriverManager;
+import com.orangehrm.testng.utils.DriverSessionPool;
+
+/**
+ * Suite listener that launches browser sessions in the background as soon as the suite starts,
+ * so that the first {@code BaseTest.setUp} on each worker thread leases an already running browser.
+ *
+ * The number of sessions per browser is derived from the suite XML: each &lt;test&gt; contributes
+ * its effective thread-count (capped by its number of classes), and tests that run in parallel
+ * (suite parallel="tests") add up while sequential tests only need the largest of them.
+ * Pre-warming is skipped when the session pool is disabled or driver.prewarm.enabled=false.
+ */
+public class SessionPrewarmListener implements ISuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(SessionPrewarmListener.class);
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^:}]+)(?::([^}]*))?}");
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!DriverManager.isPoolEnabled()
+                || !Boolean.parseBoolean(ConfigManager.getProperty("driver.prewarm.enabled", "false"))) {
+            logger.info("Session pre-warming disabled for suite: {}", suite.getName());
+            return;
+        }
+
+        boolean isHeadless = Boolean.parseBoolean(ConfigManager.getProperty("headless.run", "false"));
+        boolean isRemote = ConfigManager.isRemoteWebDriver();
+
+        Map<String, Integer> sessionsPerBrowser = countSessionsPerBrowser(suite.getXmlSuite());
+        sessionsPerBrowser.forEach((browser, count) -> {
+            logger.info("Pre-warming {} {} session(s) for suite: {}", count, browser, suite.getName());
+            DriverManager.getSessionPool().prewarm(new DriverSessionPool.SessionKey(browser, isHeadless, isRemote), count);
+        });
+    }
+
+    /**
+     * Works out how many concurrent sessions each browser needs for the suite.
+     */
+    private Map<String, Integer> countSessionsPerBrowser(XmlSuite xmlSuite) {
+        boolean testsRunInParallel = xmlSuite.getParallel() == XmlSuite.ParallelMode.TESTS;
+        Map<String, Integer> sessionsPerBrowser = new LinkedHashMap<>();
+
+        for (XmlTest xmlTest : xmlSuite.getTests()) {
+            String browser = resolvePlaceholder(xmlTest.getParameter("browser"));
+            if (browser == null || browser.isEmpty()) {
+                browser = ConfigManager.getProperty("browser", "chrome");
+            }
+            int classCount = Math.max(1, xmlTest.getXmlClasses().size());
+            int threads = xmlTest.getParallel().isParallel() ? Math.max(1, xmlTest.getThreadCount()) : 1;
+            int needed = Math.min(threads, classCount);
+
+            sessionsPerBrowser.merge(browser.toLowerCase(), needed, testsRunInParallel ? Integer::sum : Math::max);
+        }
+        return sessionsPerBrowser;
+    }
+
+    /**
+     * Resolves values of the form ${name:default} used in the suite XMLs against system properties.
+     */
+    private String resolvePlaceholder(String value) {
+        if (value == null) {
+            return null;
+        }
+        Matcher matcher = PLACEHOLDER.matcher(value.trim());
+        if (matcher.matches()) {
+            return System.getProperty(matcher.group(1), matcher.group(2));
+        }
+        return value.trim();
+    }
+}
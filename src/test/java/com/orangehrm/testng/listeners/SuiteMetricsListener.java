@@ -0,0 +1,76 @@
+package com.orangehrm.testng.listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import com.orangehrm.testng.utils.AuthSessionCache;
+import com.orangehrm.testng.utils.BrowserFactory;
+import com.orangehrm.testng.utils.DriverManager;
+import com.orangehrm.testng.utils.DriverSessionPool;
+import com.orangehrm.testng.utils.ElementCache;
+import com.orangehrm.testng.utils.FormFiller;
+import com.orangehrm.testng.utils.LearnedTimeouts;
+import com.orangehrm.testng.utils.LocatorProfiler;
+import com.orangehrm.testng.utils.RemoteHttpClientFactory;
+import com.orangehrm.testng.utils.RetryPolicy;
+import com.orangehrm.testng.utils.SessionRegistry;
+import com.orangehrm.testng.utils.WaitMetrics;
+
+/**
+ * Suite listener that logs the session, transport, wait and element metrics collected during a suite.
+ * The metrics are JVM-wide, so they are reset when each suite starts; a run with several suites then
+ * reports each suite on its own. Register it before SessionPrewarmListener so that pre-warmed
+ * sessions are counted in the suite that started them.
+ */
+public class SuiteMetricsListener implements ISuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(SuiteMetricsListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        DriverManager.getSessionPool().resetMetrics();
+        BrowserFactory.resetProfileTimings();
+        BrowserFactory.getCreationPolicy().resetMetrics();
+        if (BrowserFactory.getAdmissionController() != null) {
+            BrowserFactory.getAdmissionController().resetMetrics();
+        }
+        RemoteHttpClientFactory.shared().resetMetrics();
+        AuthSessionCache.resetMetrics();
+        SessionRegistry.resetCounts();
+        WaitMetrics.reset();
+        ElementCache.resetMetrics();
+        RetryPolicy.resetMetrics();
+        FormFiller.resetMetrics();
+        LocatorProfiler.reset();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        String name = suite.getName();
+        if (DriverManager.isPoolEnabled()) {
+            DriverSessionPool pool = DriverManager.getSessionPool();
+            logger.info("Suite '{}' finished. {}", name, pool.describeHiddenStartup());
+            logger.info("Suite '{}' finished. {}", name, pool.describeMetrics());
+        }
+        logger.info("Suite '{}' finished. {}", name, BrowserFactory.describeProfileTimings());
+        logger.info("Suite '{}' finished. {}", name, AuthSessionCache.describeMetrics());
+        logger.info("Suite '{}' finished. {}", name, SessionRegistry.describeLeaks());
+        logger.info("Suite '{}' finished. {}", name, WaitMetrics.describe());
+        logger.info("Suite '{}' finished. {}", name, ElementCache.describeMetrics());
+        logger.info("Suite '{}' finished. {}", name, RetryPolicy.describeMetrics());
+        logger.info("Suite '{}' finished. {}", name, FormFiller.describeMetrics());
+        if (LearnedTimeouts.isEnabled()) {
+            logger.info("Suite '{}' finished. {}", name, LearnedTimeouts.describe());
+        }
+        if (LocatorProfiler.isEnabled()) {
+            logger.info("Suite '{}' finished. {}", name, LocatorProfiler.describeReport(15));
+        }
+        logger.info("Suite '{}' finished. {}", name, BrowserFactory.getCreationPolicy().describeMetrics());
+        logger.info("Suite '{}' finished. {}", name, RemoteHttpClientFactory.shared().describeMetrics());
+        if (BrowserFactory.getAdmissionController() != null) {
+            logger.info("Suite '{}' finished. {}", name, BrowserFactory.getAdmissionController().describeMetrics());
+        }
+    }
+}
@@ -9,6 +9,8 @@ import java.io.*;
 import java.nio.file.*;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Properties;
 
 public class AllureReportManager {
 
@@ -91,6 +93,26 @@ public class AllureReportManager {
         }
     }
 
+    // Add entries to the Environment section of the Allure report (allure-results/environment.properties)
+    public static synchronized void addEnvironmentInfo(Map<String, String> entries) {
+        Path environmentFile = Paths.get(ALLURE_RESULTS_DIR, "environment.properties");
+        Properties environment = new Properties();
+        try {
+            if (Files.exists(environmentFile)) {
+                try (InputStream input = Files.newInputStream(environmentFile)) {
+                    environment.load(input);
+                }
+            }
+            environment.putAll(entries);
+            try (OutputStream output = Files.newOutputStream(environmentFile)) {
+                environment.store(output, null);
+            }
+            logger.info("Allure environment info updated: {}", entries.keySet());
+        } catch (IOException e) {
+            logger.error("Error writing Allure environment info: {}", e.getMessage());
+        }
+    }
+
     // Log the successful completion of a test
     public static void logTestSuccess(String testName, long duration) {
         logger.info("Test '{}' passed successfully. Duration: {} ms", testName, duration);
@@ -208,6 +208,16 @@ public class ExtentReportManager {
         }
     }
 
+    // Add a key/value pair to the report's system info section
+    public static synchronized void addSystemInfo(String key, String value) {
+        if (extentReports != null) {
+            extentReports.setSystemInfo(key, value);
+            logger.info("System info added: {} = {}", key, value);
+        } else {
+            logger.error("Extent report is not initialized. Failed to add system info: {}", key);
+        }
+    }
+
     // Finalize and flush the Extent report
     public static void flush() {
         if (extentReports != null) {
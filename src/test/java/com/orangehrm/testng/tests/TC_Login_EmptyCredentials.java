@@ -4,7 +4,10 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import com.orangehrm.testng.basetest.BaseTest;
+import com.orangehrm.testng.page.locators.LoginPageLocators;
+import com.orangehrm.testng.pages.LoginPage;
 import com.orangehrm.testng.reports.ExtentReportManager;
+import com.orangehrm.testng.utils.ElementStateSnapshot;
 import com.orangehrm.testng.utils.TestLogger;
 
 import io.qameta.allure.Description;
@@ -38,15 +41,19 @@ public class TC_Login_EmptyCredentials extends BaseTest {
             ExtentReportManager.getTest().info(logMessage);  // Log to Extent Report
             testLogger.logInfo(logMessage);  // Log to TestLogger
 
+            // Wait for the form to settle, then read both field errors in one round trip
+            Assert.assertEquals(loginPage.awaitLoginOutcome(), LoginPage.LoginOutcome.REQUIRED_FIELD, "Required field errors not shown");
+            ElementStateSnapshot state = loginPage.captureState();
+
             // Verify username field error
-            String usernameError = loginPage.getUsernameFieldErrorMessage();
+            String usernameError = state.get(LoginPageLocators.getUsernameErrorLocator()).getText();
             Assert.assertEquals(usernameError, REQUIRED_FIELD_ERROR, "Username error validation");
             logMessage = "Username field error validated.";
             ExtentReportManager.getTest().info(logMessage);  // Log to Extent Report
             testLogger.logInfo(logMessage);  // Log to TestLogger
 
             // Verify password field error
-            String passwordError = loginPage.getPasswordFieldErrorMessage();
+            String passwordError = state.get(LoginPageLocators.getPasswordErrorLocator()).getText();
             Assert.assertEquals(passwordError, REQUIRED_FIELD_ERROR, "Password error validation");
             logMessage = "Password field error validated.";
             ExtentReportManager.getTest().info(logMessage);  // Log to Extent Report
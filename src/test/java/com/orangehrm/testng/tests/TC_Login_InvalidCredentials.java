@@ -5,6 +5,7 @@ import org.testng.SkipException;
 import org.testng.annotations.Test;
 
 import com.orangehrm.testng.basetest.BaseTest;
+import com.orangehrm.testng.pages.LoginPage;
 import com.orangehrm.testng.reports.ExtentReportManager;
 import com.orangehrm.testng.utils.TestDataProvider;
 import com.orangehrm.testng.utils.TestLogger;
@@ -49,6 +50,9 @@ public class TC_Login_InvalidCredentials extends BaseTest {
             // Perform login with invalid credentials
             performLogin(username, password);
 
+            // Returns as soon as the page settles, whichever way it went
+            Assert.assertEquals(loginPage.awaitLoginOutcome(), LoginPage.LoginOutcome.LOGIN_ERROR, "Login did not fail with an error message!");
+
             // Validate the error message after attempting login
             Assert.assertEquals(loginPage.getLoginErrorMessage(), INVALID_CREDENTIALS_MESSAGE, "Error message does not match!");
             ExtentReportManager.getTest().info("Invalid credentials error message validated.");
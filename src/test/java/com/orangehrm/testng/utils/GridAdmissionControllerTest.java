@@ -0,0 +1,154 @@
+package com.orangehrm.testng.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.openqa.selenium.SessionNotCreatedException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Unit tests for {@link GridAdmissionController} against a stub hub serving /status with
+ * com.sun.net.httpserver, so no Selenium Grid is needed.
+ */
+public class GridAdmissionControllerTest {
+
+    private static final String FREE_CHROME_SLOT = status(node("UP", 1, slot("chrome", false)));
+    private static final String FULL_GRID = status(node("UP", 1, slot("chrome", true)));
+
+    private final AtomicReference<String> statusBody = new AtomicReference<>();
+    private HttpServer hub;
+    private GridAdmissionController controller;
+
+    @BeforeMethod
+    public void startHub() throws IOException {
+        hub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        hub.createContext("/status", exchange -> {
+            byte[] body = statusBody.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        hub.start();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopHub() {
+        if (controller != null) {
+            controller.shutdown();
+        }
+        hub.stop(0);
+    }
+
+    @Test(description = "Free slots are counted per browser, bounded by the node's max-sessions minus busy slots")
+    public void parsesFreeSlotsPerBrowser() {
+        String json = status(
+                node("UP", 2, slot("chrome", false), slot("chrome", false), slot("firefox", true)),
+                node("UP", 4, slot("MicrosoftEdge", false), slot("chrome", false)),
+                node("DRAINING", 4, slot("chrome", false)));
+
+        Map<String, Integer> free = GridAdmissionController.parseFreeSlots(json);
+
+        Assert.assertEquals(free.get("chrome"), Integer.valueOf(2), "1 from the busy node (2 max - 1 busy) plus 1 from the second node");
+        Assert.assertEquals(free.get("edge"), Integer.valueOf(1), "MicrosoftEdge is reported as edge");
+        Assert.assertNull(free.get("firefox"), "busy slots are not free");
+    }
+
+    @Test(description = "A status without nodes reports no free slots")
+    public void parsesEmptyStatus() {
+        Assert.assertTrue(GridAdmissionController.parseFreeSlots("{\"value\": {\"ready\": false}}").isEmpty());
+    }
+
+    @Test(description = "A request is admitted at once when the hub reports a free slot")
+    public void admitsWhenSlotIsFree() {
+        statusBody.set(FREE_CHROME_SLOT);
+        controller = controllerFor(hubStatusUri(), 5);
+
+        long start = System.nanoTime();
+        String session = controller.admit("chrome", () -> "session");
+
+        Assert.assertEquals(session, "session");
+        Assert.assertTrue(elapsedMillis(start) < 2_000, "admission should not wait for a free slot");
+    }
+
+    @Test(description = "A request waits while the grid is full and is admitted once a slot frees up")
+    public void waitsWhileGridIsFull() throws Exception {
+        statusBody.set(FULL_GRID);
+        controller = controllerFor(hubStatusUri(), 10);
+
+        CompletableFuture<String> admitted = CompletableFuture.supplyAsync(() -> controller.admit("chrome", () -> "session"));
+        Thread.sleep(300);
+        Assert.assertFalse(admitted.isDone(), "request must queue while no slot is free");
+        Assert.assertEquals(controller.getQueueDepth("chrome"), 1);
+
+        statusBody.set(FREE_CHROME_SLOT);
+        Assert.assertEquals(admitted.get(5, TimeUnit.SECONDS), "session");
+        Assert.assertEquals(controller.getQueueDepth("chrome"), 0);
+    }
+
+    @Test(description = "A request still queued when the admission timeout expires fails without creating a session")
+    public void failsAfterAdmissionTimeout() {
+        statusBody.set(FULL_GRID);
+        controller = controllerFor(hubStatusUri(), 1);
+
+        long start = System.nanoTime();
+        Assert.assertThrows(SessionNotCreatedException.class, () -> controller.admit("chrome", () -> {
+            throw new AssertionError("session must not be created without a slot");
+        }));
+        Assert.assertTrue(elapsedMillis(start) >= 1_000, "should wait out the admission timeout");
+        Assert.assertEquals(controller.getQueueDepth("chrome"), 0, "timed-out request must leave the queue");
+    }
+
+    @Test(description = "An unreachable hub does not block sessions: admission fails open")
+    public void admitsWhenHubIsUnreachable() throws IOException {
+        controller = controllerFor(URI.create("http://127.0.0.1:" + unusedPort() + "/status"), 5);
+
+        Assert.assertEquals(controller.admit("chrome", () -> "session"), "session");
+    }
+
+    private GridAdmissionController controllerFor(URI statusUri, long timeoutSeconds) {
+        return new GridAdmissionController(statusUri, 50, timeoutSeconds);
+    }
+
+    private URI hubStatusUri() {
+        return URI.create("http://127.0.0.1:" + hub.getAddress().getPort() + "/status");
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static String status(String... nodes) {
+        return "{\"value\": {\"ready\": true, \"nodes\": [" + String.join(",", nodes) + "]}}";
+    }
+
+    private static String node(String availability, int maxSessions, String... slots) {
+        return "{\"availability\": \"" + availability + "\", \"maxSessions\": " + maxSessions
+                + ", \"slots\": [" + String.join(",", slots) + "]}";
+    }
+
+    private static String slot(String browserName, boolean busy) {
+        return "{\"stereotype\": {\"browserName\": \"" + browserName + "\"}, \"session\": "
+                + (busy ? "{\"sessionId\": \"abc\"}" : "null") + "}";
+    }
+}
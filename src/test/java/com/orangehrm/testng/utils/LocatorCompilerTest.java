@@ -0,0 +1,78 @@
+package com.orangehrm.testng.utils;
+
+import java.util.Optional;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Table-driven unit tests for {@link LocatorCompiler}: XPaths inside the supported subset and their exact
+ * CSS equivalents, and XPaths that must be left unconverted because CSS cannot express them exactly.
+ */
+public class LocatorCompilerTest {
+
+    @DataProvider(name = "supportedRewrites")
+    public Object[][] supportedRewrites() {
+        return new Object[][]{
+                {"//button[@type='submit']", "button[type=\"submit\"]"},
+                {"//input[@name=\"username\"]", "input[name=\"username\"]"},
+                {"//p[@class='oxd-text oxd-text--p']", "p[class=\"oxd-text oxd-text--p\"]"},
+                {"//*[@id='app']", "*[id=\"app\"]"},
+                {"//div[contains(@class,'oxd-input-group')]", "div[class*=\"oxd-input-group\"]"},
+                {"//a[starts-with(@href, '/web/index.php')]", "a[href^=\"/web/index.php\"]"},
+                {"//input[@type='text' and @name='q']", "input[type=\"text\"][name=\"q\"]"},
+                {"//input[@type='text'][@name='q']", "input[type=\"text\"][name=\"q\"]"},
+                {"//form//input[@name='password']", "form input[name=\"password\"]"},
+                {"//ul/li[@class='item']", "ul > li[class=\"item\"]"},
+                {"//div[@data-v-1f99f73c='']", "div[data-v-1f99f73c=\"\"]"},
+                {"//a[@title='say \"hi\"']", "a[title=\"say \\\"hi\\\"\"]"},
+                {"  //span[@class='x']  ", "span[class=\"x\"]"},
+        };
+    }
+
+    @DataProvider(name = "unconverted")
+    public Object[][] unconverted() {
+        return new Object[][]{
+                {"//h6[text()='Dashboard']"},
+                {"//span[normalize-space()='Login']"},
+                {"//div[contains(text(),'Invalid')]"},
+                {"//li[1]"},
+                {"(//div[@class='row'])[2]"},
+                {"//div/ancestor::form"},
+                {"//div[@id='a' or @id='b']"},
+                {"//div[contains(@class,'')]"},
+                {"//*"},
+                {"/html/body/div"},
+                {"//div[@id='unterminated]"},
+                {"//div[@id!='x']"},
+                {"//div[@*='x']"},
+        };
+    }
+
+    @Test(dataProvider = "supportedRewrites", description = "XPaths in the supported subset compile to an exact CSS equivalent")
+    public void compilesSupportedXPath(String xpath, String css) {
+        Assert.assertEquals(LocatorCompiler.compile(xpath), Optional.of(css), xpath);
+    }
+
+    @Test(dataProvider = "unconverted", description = "XPaths without an exact CSS equivalent are left unconverted")
+    public void leavesUnsupportedXPath(String xpath) {
+        Assert.assertEquals(LocatorCompiler.compile(xpath), Optional.empty(), xpath);
+        Assert.assertEquals(LocatorCompiler.toCss(By.xpath(xpath)), Optional.empty(), xpath);
+    }
+
+    @Test(description = "Only XPath locators are translated")
+    public void ignoresNonXPathLocators() {
+        Assert.assertEquals(LocatorCompiler.toCss(By.id("username")), Optional.empty());
+        Assert.assertEquals(LocatorCompiler.toCss(By.cssSelector("input[name='username']")), Optional.empty());
+        Assert.assertEquals(LocatorCompiler.toCss(By.xpath("//input[@name='username']")),
+                Optional.of(By.cssSelector("input[name=\"username\"]")));
+    }
+
+    @Test(description = "A locator that was not compiled is its own original")
+    public void originalOfUncompiledLocatorIsItself() {
+        By locator = By.xpath("//h6[text()='Dashboard']");
+        Assert.assertSame(LocatorCompiler.original(LocatorCompiler.optimize(locator)), locator);
+    }
+}
@@ -0,0 +1,175 @@
+package com.orangehrm.testng.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Unit tests for {@link RemoteHttpClientFactory} against a stand-in hub built on com.sun.net.httpserver
+ * that answers the W3C new session, navigation, title and delete session commands, so no grid is needed.
+ */
+public class RemoteHttpClientFactoryTest {
+
+    private static final Capabilities CHROME = new ImmutableCapabilities("browserName", "chrome");
+    private static final int SESSIONS = 5;
+    private static final int COMMANDS_PER_SESSION = 10;
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger sessionIds = new AtomicInteger();
+    private final AtomicLong titleDelayMillis = new AtomicLong();
+    private final AtomicLong navigationDelayMillis = new AtomicLong();
+    private ExecutorService hubThreads;
+    private HttpServer hub;
+    private RemoteHttpClientFactory factory;
+
+    @BeforeMethod
+    public void startHub() throws IOException {
+        clientPorts.clear();
+        titleDelayMillis.set(0);
+        navigationDelayMillis.set(0);
+        hubThreads = Executors.newCachedThreadPool();
+        hub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        hub.createContext("/", this::handle);
+        hub.setExecutor(hubThreads);
+        hub.start();
+        factory = new RemoteHttpClientFactory(Duration.ofSeconds(5), Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(5));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopHub() {
+        factory.shutdown();
+        hub.stop(0);
+        hubThreads.shutdownNow();
+    }
+
+    @Test(description = "Sessions on the shared transport reuse its connections; per-session clients open one each")
+    public void sharedTransportReusesConnectionsAcrossSessions() throws Exception {
+        long pooledStart = System.nanoTime();
+        for (int i = 0; i < SESSIONS; i++) {
+            runSession(factory.newRemoteDriver(hubUrl(), CHROME));
+        }
+        long pooledMillis = elapsedMillis(pooledStart);
+        int pooledConnections = clientPorts.size();
+
+        clientPorts.clear();
+        long perSessionStart = System.nanoTime();
+        for (int i = 0; i < SESSIONS; i++) {
+            runSession(new RemoteWebDriver(hubUrl(), CHROME));
+        }
+        long perSessionMillis = elapsedMillis(perSessionStart);
+        int perSessionConnections = clientPorts.size();
+
+        Reporter.log(String.format("%d sessions x %d commands: shared transport %d connection(s) in %d ms, "
+                        + "per-session clients %d connection(s) in %d ms", SESSIONS, COMMANDS_PER_SESSION,
+                pooledConnections, pooledMillis, perSessionConnections, perSessionMillis), true);
+        Assert.assertTrue(pooledConnections <= 2, "one connection for new sessions and one for commands, got " + pooledConnections);
+        Assert.assertTrue(perSessionConnections >= SESSIONS, "each session's own client opens a connection, got " + perSessionConnections);
+    }
+
+    @Test(description = "A command exceeding the command timeout is aborted by the request's own read timeout")
+    public void slowCommandTimesOut() throws Exception {
+        RemoteWebDriver driver = factory.newRemoteDriver(hubUrl(), CHROME);
+        titleDelayMillis.set(3_000);
+
+        long start = System.nanoTime();
+        TimeoutException timeout = Assert.expectThrows(TimeoutException.class, driver::getTitle);
+        Assert.assertTrue(elapsedMillis(start) < 2_500, "should fail after the 1 s command timeout");
+        Assert.assertTrue(timeout.getMessage().contains("GET /session/{id}/title"), timeout.getMessage());
+
+        titleDelayMillis.set(0);
+        Assert.assertEquals(driver.getTitle(), "OrangeHRM", "the transport stays usable after a timed-out command");
+        driver.quit();
+    }
+
+    @Test(description = "Navigation is bounded by the navigation timeout, not the shorter command timeout")
+    public void navigationUsesNavigationTimeout() throws Exception {
+        RemoteWebDriver driver = factory.newRemoteDriver(hubUrl(), CHROME);
+        navigationDelayMillis.set(1_500);
+
+        driver.get("https://opensource-demo.orangehrmlive.com/");
+        driver.quit();
+    }
+
+    @Test(description = "Round-trip latency is recorded per command with session and element ids masked")
+    public void recordsLatencyPerCommand() throws Exception {
+        runSession(factory.newRemoteDriver(hubUrl(), CHROME));
+
+        Assert.assertEquals(factory.getCommandLatency().get("GET /session/{id}/title").getCount(), (long) COMMANDS_PER_SESSION);
+        Assert.assertEquals(factory.getCommandLatency().get("POST /session").getCount(), 1L);
+        Assert.assertEquals(factory.getCommandLatency().get("DELETE /session/{id}").getCount(), 1L);
+    }
+
+    private static void runSession(RemoteWebDriver driver) {
+        try {
+            for (int i = 0; i < COMMANDS_PER_SESSION; i++) {
+                Assert.assertEquals(driver.getTitle(), "OrangeHRM");
+            }
+        } finally {
+            driver.quit();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        exchange.getRequestBody().readAllBytes();
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        String value = "null";
+        if ("POST".equals(method) && path.matches("/session/?")) {
+            value = "{\"sessionId\": \"session-" + sessionIds.incrementAndGet() + "\", \"capabilities\": {\"browserName\": \"chrome\"}}";
+        } else if (path.endsWith("/title")) {
+            pause(titleDelayMillis.get());
+            value = "\"OrangeHRM\"";
+        } else if (path.endsWith("/url")) {
+            pause(navigationDelayMillis.get());
+        }
+        byte[] body = ("{\"value\": " + value + "}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        try {
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (IOException e) {
+            // the client aborted a timed-out request
+        }
+    }
+
+    private URL hubUrl() throws IOException {
+        return new URL("http://127.0.0.1:" + hub.getAddress().getPort());
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}